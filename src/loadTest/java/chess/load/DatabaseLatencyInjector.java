@@ -0,0 +1,68 @@
+package chess.load;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+public class DatabaseLatencyInjector implements BeanPostProcessor, EnvironmentAware {
+
+    private long latencyMillis;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        latencyMillis = environment.getProperty("chess.load.db-latency-millis", Long.class, 0L);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || latencyMillis <= 0) {
+            return bean;
+        }
+        return wrap(DataSource.class, bean);
+    }
+
+    private Object wrap(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            new LatencyHandler(target));
+    }
+
+    private class LatencyHandler implements InvocationHandler {
+
+        private final Object target;
+
+        private LatencyHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                Thread.sleep(latencyMillis);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof PreparedStatement) {
+                return wrap(PreparedStatement.class, result);
+            }
+            if (result instanceof Statement) {
+                return wrap(Statement.class, result);
+            }
+            if (result instanceof Connection) {
+                return wrap(Connection.class, result);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package chess.load;
+
+import chess.SpringChessApplication;
+import chess.config.VirtualThreads;
+import chess.model.domain.piece.Team;
+import chess.model.repository.RoomDao;
+import chess.service.ChessGameService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class LoadTest {
+
+    private static final String[][] KNIGHT_SHUFFLE = {
+        {"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}
+    };
+
+    private final int gameCount;
+    private final int movesPerGame;
+    private final int clientCount;
+    private final long dbLatencyMillis;
+
+    private LoadTest(int gameCount, int movesPerGame, int clientCount, long dbLatencyMillis) {
+        this.gameCount = gameCount;
+        this.movesPerGame = movesPerGame;
+        this.clientCount = clientCount;
+        this.dbLatencyMillis = dbLatencyMillis;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("http.maxConnections", "1000");
+        LoadTest loadTest = new LoadTest(argument(args, 0, 200), argument(args, 1, 40),
+            argument(args, 2, 400), argument(args, 3, 20));
+        Result platform = loadTest.run(false);
+        System.out.println("platform : " + platform);
+        if (!VirtualThreads.isSupported()) {
+            System.out.println("virtual  : JDK 21 이상에서만 측정할 수 있습니다.");
+            return;
+        }
+        Result virtual = loadTest.run(true);
+        System.out.println("virtual  : " + virtual);
+    }
+
+    private static int argument(String[] args, int index, int defaultValue) {
+        if (args.length <= index) {
+            return defaultValue;
+        }
+        return Integer.parseInt(args[index]);
+    }
+
+    private Result run(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+            SpringChessApplication.class, DatabaseLatencyInjector.class)
+            .properties(
+                "spring.profiles.active=h2mem",
+                "spring.datasource.url=jdbc:h2:mem:load_" + mode
+                    + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "server.port=0",
+                "chess.threads.virtual=" + virtual,
+                "chess.room.directory.refresh-seconds=0",
+                "chess.load.db-latency-millis=" + dbLatencyMillis,
+                "logging.level.root=WARN")
+            .run();
+        try {
+            String baseUrl = "http://localhost"
+                + ":" + context.getEnvironment().getProperty("local.server.port");
+            List<Integer> gameIds = createGames(context.getBean(ChessGameService.class));
+            return play(baseUrl, gameIds);
+        } finally {
+            context.close();
+        }
+    }
+
+    private List<Integer> createGames(ChessGameService chessGameService) {
+        Map<Team, String> userNames = new EnumMap<>(Team.class);
+        userNames.put(Team.BLACK, "load-black");
+        userNames.put(Team.WHITE, "load-white");
+        List<Integer> gameIds = new ArrayList<>();
+        for (int i = 0; i < gameCount; i++) {
+            Integer roomId = RoomDao.getInstance().create("load-" + i, "");
+            gameIds.add(chessGameService.create(roomId, userNames));
+        }
+        return gameIds;
+    }
+
+    private Result play(String baseUrl, List<Integer> gameIds) throws Exception {
+        Queue<Long> moveLatencies = new ConcurrentLinkedQueue<>();
+        Queue<Long> boardLatencies = new ConcurrentLinkedQueue<>();
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<?>> games = new ArrayList<>();
+        long start = System.nanoTime();
+        for (Integer gameId : gameIds) {
+            games.add(clients.submit(() -> {
+                for (int ply = 0; ply < movesPerGame; ply++) {
+                    String[] move = KNIGHT_SHUFFLE[ply % KNIGHT_SHUFFLE.length];
+                    moveLatencies.add(post(baseUrl + "/api/game/move", "{\"source\":\""
+                        + move[0] + "\",\"target\":\"" + move[1] + "\",\"gameId\":" + gameId
+                        + "}"));
+                    boardLatencies.add(post(baseUrl + "/api/game/board",
+                        "{\"gameId\":" + gameId + "}"));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> game : games) {
+            game.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        clients.shutdown();
+        clients.awaitTermination(10, TimeUnit.SECONDS);
+        return new Result(moveLatencies, boardLatencies, elapsedNanos);
+    }
+
+    private long post(String url, String body) throws IOException {
+        long start = System.nanoTime();
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setRequestMethod("POST");
+        conn.setDoOutput(true);
+        conn.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = conn.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        int status = conn.getResponseCode();
+        if (status != HttpURLConnection.HTTP_OK) {
+            throw new IllegalStateException(url + " 요청이 실패했습니다. status : " + status);
+        }
+        try (InputStream in = conn.getInputStream()) {
+            drain(in);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        do {
+            read = in.read(buffer);
+        } while (read != -1);
+    }
+
+    private static class Result {
+
+        private final List<Long> moveLatencies;
+        private final List<Long> boardLatencies;
+        private final long elapsedNanos;
+
+        private Result(Queue<Long> moveLatencies, Queue<Long> boardLatencies,
+            long elapsedNanos) {
+            this.moveLatencies = sorted(moveLatencies);
+            this.boardLatencies = sorted(boardLatencies);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private static List<Long> sorted(Queue<Long> latencies) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return sorted;
+        }
+
+        private static double percentileMillis(List<Long> latencies, double percentile) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(latencies.size() * percentile) - 1;
+            return latencies.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            int requestCount = moveLatencies.size() + boardLatencies.size();
+            return String.format("%.1f req/s, move p50 %.1f ms / p99 %.1f ms, "
+                    + "board p50 %.1f ms / p99 %.1f ms", requestCount / seconds,
+                percentileMillis(moveLatencies, 0.5), percentileMillis(moveLatencies, 0.99),
+                percentileMillis(boardLatencies, 0.5), percentileMillis(boardLatencies, 0.99));
+        }
+    }
+}
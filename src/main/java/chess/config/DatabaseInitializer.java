@@ -0,0 +1,104 @@
+package chess.config;
+
+import chess.model.repository.connector.ChessConnector;
+import chess.model.repository.exception.DataAccessException;
+import chess.model.repository.migration.SchemaMigrator;
+import chess.model.repository.template.QueryMonitor;
+import chess.model.repository.template.StatementCacheMonitor;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DatabaseInitializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseInitializer.class);
+
+    private final DataSource dataSource;
+    private final boolean migrate;
+    private final int statementCacheSize;
+    private final long slowQueryThresholdMillis;
+    private final ReplicaProperties replicaProperties;
+    private DataSource replicaDataSource;
+
+    public DatabaseInitializer(DataSource dataSource,
+        @Value("${chess.datasource.migrate:true}") boolean migrate,
+        @Value("${chess.jdbc.statement-cache-size:250}") int statementCacheSize,
+        @Value("${chess.jdbc.slow-query-threshold-millis:200}") long slowQueryThresholdMillis,
+        @Value("${chess.datasource.replica.url:}") String replicaUrl,
+        @Value("${chess.datasource.replica.username:}") String replicaUserName,
+        @Value("${chess.datasource.replica.password:}") String replicaPassword,
+        @Value("${chess.datasource.replica.migrate:false}") boolean replicaMigrate) {
+        this.dataSource = dataSource;
+        this.migrate = migrate;
+        this.statementCacheSize = statementCacheSize;
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+        this.replicaProperties = new ReplicaProperties(replicaUrl, replicaUserName,
+            replicaPassword, replicaMigrate);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        ChessConnector.setDataSource(dataSource);
+        StatementCacheMonitor.getInstance().setCacheSize(statementCacheSize);
+        QueryMonitor.getInstance().setSlowThresholdMillis(slowQueryThresholdMillis);
+        if (migrate) {
+            migrate(dataSource);
+        }
+        if (replicaProperties.url.isEmpty()) {
+            return;
+        }
+        replicaDataSource = DataSourceBuilder.create()
+            .url(replicaProperties.url)
+            .username(replicaProperties.userName)
+            .password(replicaProperties.password)
+            .build();
+        if (replicaProperties.migrate) {
+            migrate(replicaDataSource);
+        }
+        ChessConnector.setReplicaDataSource(replicaDataSource);
+        LOGGER.info("읽기 전용 쿼리를 replica({})로 보냅니다.", replicaProperties.url);
+    }
+
+    private void migrate(DataSource target) {
+        try (Connection conn = target.getConnection()) {
+            int version = SchemaMigrator.getInstance().migrate(conn);
+            LOGGER.info("스키마 버전 : {}", version);
+        } catch (SQLException e) {
+            throw new DataAccessException(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        ChessConnector.setReplicaDataSource(null);
+        if (replicaDataSource instanceof Closeable) {
+            ((Closeable) replicaDataSource).close();
+        }
+    }
+
+    private static class ReplicaProperties {
+
+        private final String url;
+        private final String userName;
+        private final String password;
+        private final boolean migrate;
+
+        private ReplicaProperties(String url, String userName, String password,
+            boolean migrate) {
+            this.url = url;
+            this.userName = userName;
+            this.password = password;
+            this.migrate = migrate;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package chess.config;
+
+import chess.model.repository.connector.ReadRouting;
+import chess.model.repository.connector.ReadRouting.Scope;
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReadRoutingFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+        try (Scope scope = ReadRouting.openScope()) {
+            chain.doFilter(request, response);
+        }
+    }
+}
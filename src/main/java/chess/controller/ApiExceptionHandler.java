@@ -0,0 +1,24 @@
+package chess.controller;
+
+import chess.model.repository.exception.GameConflictException;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(GameConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String conflict(GameConflictException e) {
+        return e.getMessage();
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String rejected() {
+        return "요청이 밀려 있습니다. 잠시 후 다시 시도해 주세요.";
+    }
+}
@@ -1,11 +1,13 @@
 package chess.controller;
 
+import chess.model.dto.BoardDeltaDto;
 import chess.model.dto.ChessGameDto;
 import chess.model.dto.CreateRoomDto;
 import chess.model.dto.DeleteRoomDto;
 import chess.model.dto.GameResultDto;
 import chess.model.dto.MoveDto;
 import chess.model.dto.PathDto;
+import chess.model.dto.PremovesDto;
 import chess.model.dto.PromotionTypeDto;
 import chess.model.dto.RoomsDto;
 import chess.model.dto.SourceDto;
@@ -17,11 +19,20 @@ import chess.service.RoomService;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import java.util.Arrays;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api")
@@ -32,17 +43,20 @@ public class ApiWebController {
     private final ChessGameService chessGameService;
     private final RoomService roomService;
     private final ResultService resultService;
+    private final GameUpdateAwaiter gameUpdateAwaiter;
 
     public ApiWebController(ChessGameService chessGameService, RoomService roomService,
-        ResultService resultService) {
+        ResultService resultService, GameUpdateAwaiter gameUpdateAwaiter) {
         this.chessGameService = chessGameService;
         this.roomService = roomService;
         this.resultService = resultService;
+        this.gameUpdateAwaiter = gameUpdateAwaiter;
     }
 
     @GetMapping("/viewRooms")
-    public RoomsDto viewRooms() {
-        return roomService.getUsedRooms();
+    public RoomsDto viewRooms(@RequestParam(required = false) Integer cursor,
+        @RequestParam(required = false) Integer size) {
+        return roomService.getUsedRooms(cursor, size);
     }
 
     @PostMapping("/createRoom")
@@ -67,11 +81,69 @@ public class ApiWebController {
         return chessGameService.loadChessGame(gameId);
     }
 
+    @GetMapping("/game/{gameId}/board")
+    public ResponseEntity<BoardDeltaDto> board(@PathVariable Integer gameId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> cachedETag = chessGameService.findCachedVersion(gameId)
+            .map(version -> makeETag(gameId, version));
+        if (cachedETag.isPresent() && matchesETag(ifNoneMatch, cachedETag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(cachedETag.get())
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .build();
+        }
+        BoardDeltaDto board = chessGameService.loadChessGame(gameId, null);
+        return ResponseEntity.ok()
+            .eTag(makeETag(gameId, board.getVersion()))
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+            .body(board);
+    }
+
+    @GetMapping("/game/{gameId}/await")
+    public DeferredResult<ResponseEntity<BoardDeltaDto>> await(@PathVariable Integer gameId,
+        @RequestParam Integer since) {
+        return gameUpdateAwaiter.await(gameId, since);
+    }
+
+    private String makeETag(Integer gameId, int version) {
+        return "\"" + gameId + "-" + version + "\"";
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+            .anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag));
+    }
+
+    @PostMapping("/game/board/delta")
+    public BoardDeltaDto boardDelta(@RequestBody String req,
+        @RequestParam(required = false) Integer since) {
+        JsonObject body = JsonParser.parseString(req).getAsJsonObject();
+        Integer gameId = GSON.fromJson(body.get("gameId"), Integer.class);
+
+        return chessGameService.loadChessGame(gameId, since);
+    }
+
     @PostMapping("/game/move")
     public ChessGameDto move(@RequestBody MoveDto MoveDto) {
         return chessGameService.move(MoveDto);
     }
 
+    @PostMapping("/game/move/delta")
+    public BoardDeltaDto moveDelta(@RequestBody MoveDto moveDto,
+        @RequestParam(required = false) Integer since) {
+        return chessGameService.move(moveDto, since);
+    }
+
+    @PostMapping("/game/premove")
+    public ChessGameDto premove(@RequestBody PremovesDto premovesDto) {
+        return chessGameService.submitPremoves(premovesDto);
+    }
+
     @PostMapping("/game/path")
     public PathDto path(@RequestBody SourceDto sourceDto) {
         return chessGameService.findPath(sourceDto);
@@ -82,6 +154,12 @@ public class ApiWebController {
         return chessGameService.promote(promotionTypeDTO);
     }
 
+    @PostMapping("/game/promotion/delta")
+    public BoardDeltaDto promotionDelta(@RequestBody PromotionTypeDto promotionTypeDto,
+        @RequestParam(required = false) Integer since) {
+        return chessGameService.promote(promotionTypeDto, since);
+    }
+
     @PostMapping("/game/end")
     public ChessGameDto end(@RequestBody String req) {
         JsonObject body = JsonParser.parseString(req).getAsJsonObject();
@@ -91,8 +169,9 @@ public class ApiWebController {
     }
 
     @GetMapping("/result/viewUsers")
-    public UserNamesDto viewUsers() {
-        return resultService.getUsers();
+    public UserNamesDto viewUsers(@RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        return resultService.getUsers(cursor, size);
     }
 
     @GetMapping("/result/userResult")
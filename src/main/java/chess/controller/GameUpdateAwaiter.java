@@ -0,0 +1,101 @@
+package chess.controller;
+
+import chess.model.dto.BoardDeltaDto;
+import chess.model.dto.ChessGameDto;
+import chess.service.ChessGameService;
+import chess.service.GameUpdateListener;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import util.NullChecker;
+
+@Component
+public class GameUpdateAwaiter implements GameUpdateListener {
+
+    private final ChessGameService chessGameService;
+    private final long timeoutMillis;
+    private final Map<Integer, Set<Waiter>> waitersByGame = new ConcurrentHashMap<>();
+
+    public GameUpdateAwaiter(@Lazy ChessGameService chessGameService,
+        @Value("${chess.await.timeout-millis:25000}") long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("대기 시간은 0보다 커야 합니다.");
+        }
+        this.chessGameService = chessGameService;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public DeferredResult<ResponseEntity<BoardDeltaDto>> await(Integer gameId, Integer since) {
+        NullChecker.validateNotNull(gameId, since);
+        Waiter waiter = new Waiter(gameId, since, new DeferredResult<>(timeoutMillis,
+            ResponseEntity.status(HttpStatus.NO_CONTENT).build()));
+        waitersByGame.computeIfAbsent(gameId, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        waiter.result.onCompletion(() -> remove(waiter));
+
+        Optional<Integer> cachedVersion = chessGameService.findCachedVersion(gameId);
+        if (cachedVersion.isPresent() && cachedVersion.get().equals(since)) {
+            return waiter.result;
+        }
+        BoardDeltaDto board = chessGameService.loadChessGame(gameId, since);
+        if (board.getVersion() != since) {
+            remove(waiter);
+            waiter.result.setResult(ResponseEntity.ok(board));
+        }
+        return waiter.result;
+    }
+
+    @Override
+    public void onGameUpdated(Integer gameId, int version, ChessGameDto chessGameDto) {
+        Set<Waiter> waiters = waitersByGame.remove(gameId);
+        if (waiters == null) {
+            return;
+        }
+        Map<Integer, ResponseEntity<BoardDeltaDto>> responses = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            waiter.result.setResult(responses.computeIfAbsent(waiter.since,
+                since -> ResponseEntity.ok(findDelta(gameId, version, since, chessGameDto))));
+        }
+    }
+
+    private BoardDeltaDto findDelta(Integer gameId, int version, Integer since,
+        ChessGameDto chessGameDto) {
+        Optional<BoardDeltaDto> delta
+            = chessGameService.findCachedDelta(gameId, since, chessGameDto);
+        return delta.orElseGet(() -> BoardDeltaDto.full(version, chessGameDto));
+    }
+
+    public int countWaiters(Integer gameId) {
+        return Optional.ofNullable(waitersByGame.get(gameId))
+            .map(Set::size)
+            .orElse(0);
+    }
+
+    private void remove(Waiter waiter) {
+        waitersByGame.computeIfPresent(waiter.gameId, (key, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    private static class Waiter {
+
+        private final Integer gameId;
+        private final Integer since;
+        private final DeferredResult<ResponseEntity<BoardDeltaDto>> result;
+
+        private Waiter(Integer gameId, Integer since,
+            DeferredResult<ResponseEntity<BoardDeltaDto>> result) {
+            this.gameId = gameId;
+            this.since = since;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package chess.controller;
+
+import chess.model.dto.ChessGameDto;
+import chess.model.dto.MoveDto;
+import chess.model.dto.PromotionTypeDto;
+import chess.service.ChessGameService;
+import chess.service.GameUpdateListener;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+@Component
+public class GameWebSocketHandler extends TextWebSocketHandler implements GameUpdateListener {
+
+    private static final Gson GSON = new Gson();
+    private static final String GAME_ID = "gameId";
+    private static final String OUTBOX = "outbox";
+    private static final int MAX_QUEUED_FRAMES = 32;
+    private static final long SEND_TIMEOUT_MILLIS = 1000;
+    private static final int FALLBACK_SENDER_THREADS = 2;
+
+    private final ChessGameService chessGameService;
+    private final Map<Integer, Set<WebSocketOutbox>> outboxesByGame = new ConcurrentHashMap<>();
+    private final ExecutorService fallbackSender;
+
+    public GameWebSocketHandler(@Lazy ChessGameService chessGameService) {
+        this.chessGameService = chessGameService;
+        this.fallbackSender = Executors.newFixedThreadPool(FALLBACK_SENDER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "chess-websocket-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        Optional<Integer> gameId = parseGameId(session.getUri());
+        if (!gameId.isPresent()) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        WebSocketOutbox outbox = WebSocketOutbox.of(session, fallbackSender, MAX_QUEUED_FRAMES,
+            SEND_TIMEOUT_MILLIS);
+        session.getAttributes().put(GAME_ID, gameId.get());
+        session.getAttributes().put(OUTBOX, outbox);
+        outboxesByGame.computeIfAbsent(gameId.get(), key -> new CopyOnWriteArraySet<>())
+            .add(outbox);
+        outbox.offer(toMessage("update", chessGameService.loadChessGame(gameId.get())));
+    }
+
+    private Optional<Integer> parseGameId(URI uri) {
+        if (uri == null) {
+            return Optional.empty();
+        }
+        String path = uri.getPath();
+        try {
+            return Optional.of(Integer.parseInt(path.substring(path.lastIndexOf('/') + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Integer gameId = (Integer) session.getAttributes().get(GAME_ID);
+        WebSocketOutbox outbox = (WebSocketOutbox) session.getAttributes().get(OUTBOX);
+        try {
+            JsonObject command = JsonParser.parseString(message.getPayload()).getAsJsonObject();
+            outbox.offer(toMessage("reply", execute(gameId, command)));
+        } catch (RuntimeException e) {
+            JsonObject error = new JsonObject();
+            error.addProperty("type", "error");
+            error.addProperty("message", e.getMessage());
+            outbox.offer(GSON.toJson(error));
+        }
+    }
+
+    private ChessGameDto execute(Integer gameId, JsonObject command) {
+        String type = command.get("type").getAsString();
+        if ("move".equals(type)) {
+            String promotionType = command.has("promotionType")
+                ? command.get("promotionType").getAsString() : null;
+            return chessGameService.move(new MoveDto(command.get("source").getAsString(),
+                command.get("target").getAsString(), gameId, promotionType));
+        }
+        if ("promotion".equals(type)) {
+            return chessGameService.promote(new PromotionTypeDto(
+                command.get("promotionType").getAsString(), gameId));
+        }
+        throw new IllegalArgumentException("지원하지 않는 명령입니다. type : " + type);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Integer gameId = (Integer) session.getAttributes().get(GAME_ID);
+        Object outbox = session.getAttributes().get(OUTBOX);
+        if (gameId == null || outbox == null) {
+            return;
+        }
+        outboxesByGame.computeIfPresent(gameId, (key, outboxes) -> {
+            outboxes.remove(outbox);
+            return outboxes.isEmpty() ? null : outboxes;
+        });
+    }
+
+    @Override
+    public void onGameUpdated(Integer gameId, int version, ChessGameDto chessGameDto) {
+        Set<WebSocketOutbox> outboxes = outboxesByGame.get(gameId);
+        if (outboxes == null) {
+            return;
+        }
+        String message = toMessage("update", chessGameDto);
+        for (WebSocketOutbox outbox : outboxes) {
+            if (!outbox.offer(message)) {
+                outboxes.remove(outbox);
+            }
+        }
+    }
+
+    private String toMessage(String type, ChessGameDto chessGameDto) {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", type);
+        message.add("game", GSON.toJsonTree(chessGameDto));
+        return GSON.toJson(message);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fallbackSender.shutdownNow();
+    }
+}
@@ -0,0 +1,63 @@
+package chess.controller;
+
+import chess.model.dto.RoomsDto;
+import chess.service.RoomUpdateListener;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LobbyBroadcaster implements RoomUpdateListener {
+
+    private static final Gson GSON = new Gson();
+    private static final String LOBBY = "lobby";
+
+    private final SseFanOut<String> fanOut;
+    private byte[] snapshotFrame;
+
+    public LobbyBroadcaster(
+        @Value("${chess.lobby.max-subscribers:10000}") int maxSubscribers,
+        @Value("${chess.lobby.queue-capacity:64}") int queueCapacity,
+        @Value("${chess.lobby.timeout-millis:1800000}") long timeoutMillis) {
+        this.fanOut = new SseFanOut<>(maxSubscribers, queueCapacity, timeoutMillis);
+    }
+
+    public synchronized boolean subscribe(Supplier<RoomsDto> firstPage,
+        HttpServletRequest request, HttpServletResponse response) {
+        if (snapshotFrame == null) {
+            snapshotFrame = SseFanOut.toFrame("rooms", GSON.toJson(firstPage.get()));
+        }
+        return fanOut.subscribe(LOBBY, snapshotFrame, request, response);
+    }
+
+    @Override
+    public synchronized void onRoomAdded(Integer roomId, String roomName) {
+        snapshotFrame = null;
+        JsonObject room = new JsonObject();
+        room.addProperty("roomId", roomId);
+        room.addProperty("roomName", roomName);
+        fanOut.publish(LOBBY, SseFanOut.toFrame("add", GSON.toJson(room)));
+    }
+
+    @Override
+    public synchronized void onRoomRemoved(Integer roomId) {
+        snapshotFrame = null;
+        JsonObject room = new JsonObject();
+        room.addProperty("roomId", roomId);
+        fanOut.publish(LOBBY, SseFanOut.toFrame("remove", GSON.toJson(room)));
+    }
+
+    public int countSubscribers() {
+        return fanOut.countSubscribers(LOBBY);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package chess.controller;
+
+import chess.service.RoomService;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/lobby")
+public class LobbyController {
+
+    private final RoomService roomService;
+    private final LobbyBroadcaster lobbyBroadcaster;
+
+    public LobbyController(RoomService roomService, LobbyBroadcaster lobbyBroadcaster) {
+        this.roomService = roomService;
+        this.lobbyBroadcaster = lobbyBroadcaster;
+    }
+
+    @GetMapping("/stream")
+    public void stream(HttpServletRequest request, HttpServletResponse response) {
+        if (!lobbyBroadcaster.subscribe(roomService::getUsedRooms, request, response)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+}
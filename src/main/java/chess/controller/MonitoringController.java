@@ -0,0 +1,41 @@
+package chess.controller;
+
+import chess.model.dto.CacheStatisticsDto;
+import chess.model.dto.QueryStatisticsDto;
+import chess.model.dto.StatementStatisticsDto;
+import chess.model.repository.template.QueryMonitor;
+import chess.service.MonitoringService;
+import chess.service.cache.ChessGameCache;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/monitoring")
+public class MonitoringController {
+
+    private final ChessGameCache chessGameCache;
+    private final MonitoringService monitoringService;
+
+    public MonitoringController(ChessGameCache chessGameCache,
+        MonitoringService monitoringService) {
+        this.chessGameCache = chessGameCache;
+        this.monitoringService = monitoringService;
+    }
+
+    @GetMapping("/cache")
+    public CacheStatisticsDto cache() {
+        return chessGameCache.getStatistics();
+    }
+
+    @GetMapping("/queries")
+    public List<QueryStatisticsDto> queries() {
+        return QueryMonitor.getInstance().getStatistics();
+    }
+
+    @GetMapping("/statements")
+    public StatementStatisticsDto statements() {
+        return monitoringService.getStatementStatistics();
+    }
+}
@@ -0,0 +1,97 @@
+package chess.controller;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+class ServletSseConnection implements SseConnection {
+
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+    private final long timeoutMillis;
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private AsyncContext asyncContext;
+    private ServletOutputStream outputStream;
+
+    ServletSseConnection(HttpServletRequest request, HttpServletResponse response,
+        long timeoutMillis) {
+        this.request = request;
+        this.response = response;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void start(Runnable onWritable, Runnable onClosed) throws IOException {
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+        asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeoutMillis);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                completed.set(true);
+                onClosed.run();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                onClosed.run();
+                close();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                onClosed.run();
+                close();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+        outputStream = response.getOutputStream();
+        outputStream.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                onWritable.run();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                onClosed.run();
+                close();
+            }
+        });
+    }
+
+    @Override
+    public boolean isReady() {
+        return outputStream.isReady();
+    }
+
+    @Override
+    public void write(byte[] frame) throws IOException {
+        outputStream.write(frame);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() {
+        if (completed.compareAndSet(false, true)) {
+            asyncContext.complete();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package chess.controller;
+
+import chess.model.dto.ChessGameDto;
+import chess.service.GameUpdateListener;
+import com.google.gson.Gson;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpectatorBroadcaster implements GameUpdateListener {
+
+    private static final Gson GSON = new Gson();
+
+    private final SseFanOut<Integer> fanOut;
+
+    public SpectatorBroadcaster(
+        @Value("${chess.spectator.max-per-game:1000}") int maxSubscribersPerGame,
+        @Value("${chess.spectator.queue-capacity:16}") int queueCapacity,
+        @Value("${chess.spectator.timeout-millis:1800000}") long timeoutMillis) {
+        this.fanOut = new SseFanOut<>(maxSubscribersPerGame, queueCapacity, timeoutMillis);
+    }
+
+    public boolean subscribe(Integer gameId, ChessGameDto current, HttpServletRequest request,
+        HttpServletResponse response) {
+        return fanOut.subscribe(gameId, toFrame(current), request, response);
+    }
+
+    boolean subscribe(Integer gameId, ChessGameDto current, SseConnection connection) {
+        return fanOut.subscribe(gameId, toFrame(current), connection);
+    }
+
+    @Override
+    public void onGameUpdated(Integer gameId, int version, ChessGameDto chessGameDto) {
+        if (fanOut.hasSubscribers(gameId)) {
+            fanOut.publish(gameId, toFrame(chessGameDto));
+        }
+    }
+
+    static byte[] toFrame(ChessGameDto chessGameDto) {
+        return SseFanOut.toFrame("update", GSON.toJson(chessGameDto));
+    }
+
+    public int countSubscribers(Integer gameId) {
+        return fanOut.countSubscribers(gameId);
+    }
+
+    public int getDroppedCount() {
+        return fanOut.getDroppedCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+}
@@ -0,0 +1,34 @@
+package chess.controller;
+
+import chess.service.ChessGameService;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/game")
+public class SpectatorController {
+
+    private final ChessGameService chessGameService;
+    private final SpectatorBroadcaster spectatorBroadcaster;
+
+    public SpectatorController(ChessGameService chessGameService,
+        SpectatorBroadcaster spectatorBroadcaster) {
+        this.chessGameService = chessGameService;
+        this.spectatorBroadcaster = spectatorBroadcaster;
+    }
+
+    @GetMapping("/{gameId}/spectate")
+    public void spectate(@PathVariable Integer gameId, HttpServletRequest request,
+        HttpServletResponse response) {
+        boolean subscribed = chessGameService.withChessGame(gameId,
+            current -> spectatorBroadcaster.subscribe(gameId, current, request, response));
+        if (!subscribed) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+}
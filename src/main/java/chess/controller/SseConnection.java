@@ -0,0 +1,16 @@
+package chess.controller;
+
+import java.io.IOException;
+
+interface SseConnection {
+
+    void start(Runnable onWritable, Runnable onClosed) throws IOException;
+
+    boolean isReady();
+
+    void write(byte[] frame) throws IOException;
+
+    void flush() throws IOException;
+
+    void close();
+}
@@ -0,0 +1,182 @@
+package chess.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class SseFanOut<K> {
+
+    private final int maxSubscribersPerKey;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final Map<K, Set<Subscriber>> subscribersByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger droppedCount = new AtomicInteger();
+
+    public SseFanOut(int maxSubscribersPerKey, int queueCapacity, long timeoutMillis) {
+        if (maxSubscribersPerKey <= 0 || queueCapacity <= 0 || timeoutMillis <= 0) {
+            throw new IllegalArgumentException("SSE 설정 값은 0보다 커야 합니다.");
+        }
+        this.maxSubscribersPerKey = maxSubscribersPerKey;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public static byte[] toFrame(String event, String data) {
+        return ("event: " + event + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public boolean subscribe(K key, byte[] initialFrame, HttpServletRequest request,
+        HttpServletResponse response) {
+        return subscribe(key, initialFrame,
+            new ServletSseConnection(request, response, timeoutMillis));
+    }
+
+    boolean subscribe(K key, byte[] initialFrame, SseConnection connection) {
+        Subscriber subscriber = new Subscriber(key, connection, initialFrame);
+        subscribersByKey.compute(key, (k, subscribers) -> {
+            Set<Subscriber> current = Optional.ofNullable(subscribers)
+                .orElseGet(CopyOnWriteArraySet::new);
+            if (current.size() < maxSubscribersPerKey) {
+                current.add(subscriber);
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!isSubscribed(subscriber)) {
+            return false;
+        }
+        try {
+            connection.start(subscriber::write, () -> remove(subscriber));
+        } catch (IOException | RuntimeException e) {
+            remove(subscriber);
+            connection.close();
+            throw new IllegalStateException("SSE 연결을 시작하지 못했습니다.", e);
+        }
+        subscriber.connect();
+        return true;
+    }
+
+    private boolean isSubscribed(Subscriber subscriber) {
+        Set<Subscriber> subscribers = subscribersByKey.get(subscriber.key);
+        return subscribers != null && subscribers.contains(subscriber);
+    }
+
+    public boolean hasSubscribers(K key) {
+        Set<Subscriber> subscribers = subscribersByKey.get(key);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    public void publish(K key, byte[] frame) {
+        Set<Subscriber> subscribers = subscribersByKey.get(key);
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    public int countSubscribers(K key) {
+        return Optional.ofNullable(subscribersByKey.get(key))
+            .map(Set::size)
+            .orElse(0);
+    }
+
+    public int getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByKey.computeIfPresent(subscriber.key, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void drop(Subscriber subscriber) {
+        remove(subscriber);
+        droppedCount.incrementAndGet();
+        subscriber.close();
+    }
+
+    public void shutdown() {
+        subscribersByKey.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        subscribersByKey.clear();
+    }
+
+    private class Subscriber {
+
+        private final K key;
+        private final SseConnection connection;
+        private final Queue<byte[]> frames = new ArrayDeque<>();
+        private boolean connected;
+        private boolean unflushed;
+        private boolean closed;
+
+        private Subscriber(K key, SseConnection connection, byte[] initialFrame) {
+            this.key = key;
+            this.connection = connection;
+            this.frames.add(initialFrame);
+        }
+
+        private synchronized void connect() {
+            connected = true;
+            write();
+        }
+
+        private void offer(byte[] frame) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (frames.size() < queueCapacity) {
+                    frames.add(frame);
+                    write();
+                    return;
+                }
+            }
+            drop(this);
+        }
+
+        private synchronized void write() {
+            if (!connected || closed) {
+                return;
+            }
+            try {
+                while (connection.isReady()) {
+                    byte[] frame = frames.poll();
+                    if (frame == null && !unflushed) {
+                        return;
+                    }
+                    if (frame == null) {
+                        unflushed = false;
+                        connection.flush();
+                        continue;
+                    }
+                    connection.write(frame);
+                    unflushed = true;
+                }
+            } catch (IOException | IllegalStateException e) {
+                remove(this);
+                close();
+            }
+        }
+
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            frames.clear();
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package chess.controller;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+class WebSocketOutbox {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketOutbox.class);
+
+    private final WebSocketSession session;
+    private final Transport transport;
+    private final int capacity;
+    private final Queue<String> frames = new ArrayDeque<>();
+    private boolean sending;
+    private CloseStatus closeStatus;
+
+    private WebSocketOutbox(WebSocketSession session, Transport transport, int capacity) {
+        this.session = session;
+        this.transport = transport;
+        this.capacity = capacity;
+    }
+
+    static WebSocketOutbox of(WebSocketSession session, Executor fallbackSender, int capacity,
+        long sendTimeoutMillis) {
+        if (session instanceof NativeWebSocketSession) {
+            Session nativeSession
+                = ((NativeWebSocketSession) session).getNativeSession(Session.class);
+            if (nativeSession != null) {
+                RemoteEndpoint.Async asyncRemote = nativeSession.getAsyncRemote();
+                asyncRemote.setSendTimeout(sendTimeoutMillis);
+                return new WebSocketOutbox(session, (frame, completion) -> asyncRemote
+                    .sendText(frame, result -> completion.accept(result.getException())),
+                    capacity);
+            }
+        }
+        return new WebSocketOutbox(session, (frame, completion) -> fallbackSender.execute(() -> {
+            try {
+                session.sendMessage(new TextMessage(frame));
+                completion.accept(null);
+            } catch (IOException | RuntimeException e) {
+                completion.accept(e);
+            }
+        }), capacity);
+    }
+
+    synchronized boolean offer(String frame) {
+        if (closeStatus != null) {
+            return false;
+        }
+        if (frames.size() >= capacity) {
+            LOGGER.warn("WebSocket({}) 전송 대기열이 가득 차 연결을 닫습니다.", session.getId());
+            frames.clear();
+            closeStatus = CloseStatus.SERVICE_OVERLOAD;
+            return false;
+        }
+        frames.add(frame);
+        if (!sending) {
+            sendNext();
+        }
+        return true;
+    }
+
+    private void sendNext() {
+        String frame = frames.poll();
+        sending = frame != null;
+        if (frame == null) {
+            return;
+        }
+        try {
+            transport.send(frame, this::onSent);
+        } catch (RuntimeException e) {
+            onSent(e);
+        }
+    }
+
+    private synchronized void onSent(Throwable failure) {
+        sending = false;
+        if (failure != null && closeStatus == null) {
+            LOGGER.warn("WebSocket({}) 전송에 실패했습니다.", session.getId(), failure);
+            frames.clear();
+            closeStatus = CloseStatus.SESSION_NOT_RELIABLE;
+        }
+        if (closeStatus != null) {
+            closeSession();
+            return;
+        }
+        sendNext();
+    }
+
+    private void closeSession() {
+        try {
+            session.close(closeStatus);
+        } catch (IOException e) {
+            LOGGER.debug("WebSocket({}) 연결을 닫지 못했습니다.", session.getId(), e);
+        }
+    }
+
+    synchronized boolean isClosed() {
+        return closeStatus != null;
+    }
+
+    private interface Transport {
+
+        void send(String frame, Consumer<Throwable> completion);
+    }
+}
@@ -54,6 +54,10 @@ public enum Type {
             .orElseThrow(IllegalArgumentException::new);
     }
 
+    public String getLetter() {
+        return letter;
+    }
+
     public List<Direction> getDirections() {
         return directions;
     }
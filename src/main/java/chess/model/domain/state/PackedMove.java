@@ -0,0 +1,138 @@
+package chess.model.domain.state;
+
+import chess.model.domain.board.Square;
+import chess.model.domain.piece.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import util.NullChecker;
+
+public class PackedMove {
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int TARGET_SHIFT = SQUARE_BITS;
+    private static final int PROMOTION_SHIFT = SQUARE_BITS * 2;
+    private static final int PROMOTION_MASK = 0b111;
+    private static final int NO_PROMOTION = 0;
+    private static final int BOARD_LENGTH = 8;
+    private static final List<Type> PROMOTION_TYPES = Collections.unmodifiableList(
+        Arrays.asList(Type.KNIGHT, Type.BISHOP, Type.ROOK, Type.QUEEN));
+
+    private final MoveInfo moveInfo;
+    private final Type promotionType;
+
+    private PackedMove(MoveInfo moveInfo, Type promotionType) {
+        this.moveInfo = moveInfo;
+        this.promotionType = promotionType;
+    }
+
+    public static PackedMove ofMove(MoveInfo moveInfo) {
+        NullChecker.validateNotNull(moveInfo);
+        validateMoveInfo(moveInfo);
+        return new PackedMove(moveInfo, null);
+    }
+
+    public static PackedMove ofMove(MoveInfo moveInfo, Type promotionType) {
+        NullChecker.validateNotNull(moveInfo, promotionType);
+        validateMoveInfo(moveInfo);
+        validatePromotionType(promotionType);
+        return new PackedMove(moveInfo, promotionType);
+    }
+
+    public static PackedMove ofPromotion(Type promotionType) {
+        NullChecker.validateNotNull(promotionType);
+        validatePromotionType(promotionType);
+        return new PackedMove(null, promotionType);
+    }
+
+    public static PackedMove of(int code) {
+        if (code < 0 || code >> PROMOTION_SHIFT > PROMOTION_TYPES.size()) {
+            throw new IllegalArgumentException("잘못된 이동 코드입니다 : " + code);
+        }
+        int sourceIndex = code & SQUARE_MASK;
+        int targetIndex = (code >> TARGET_SHIFT) & SQUARE_MASK;
+        int promotionCode = (code >> PROMOTION_SHIFT) & PROMOTION_MASK;
+        if (sourceIndex == targetIndex) {
+            if (promotionCode == NO_PROMOTION) {
+                throw new IllegalArgumentException("잘못된 이동 코드입니다 : " + code);
+            }
+            return ofPromotion(PROMOTION_TYPES.get(promotionCode - 1));
+        }
+        MoveInfo moveInfo = new MoveInfo(toSquare(sourceIndex), toSquare(targetIndex));
+        if (promotionCode == NO_PROMOTION) {
+            return ofMove(moveInfo);
+        }
+        return ofMove(moveInfo, PROMOTION_TYPES.get(promotionCode - 1));
+    }
+
+    private static void validateMoveInfo(MoveInfo moveInfo) {
+        if (moveInfo.getSource() == moveInfo.getTarget()) {
+            throw new IllegalArgumentException("출발지와 도착지가 같은 이동은 기록할 수 없습니다.");
+        }
+    }
+
+    private static void validatePromotionType(Type promotionType) {
+        if (!PROMOTION_TYPES.contains(promotionType)) {
+            throw new IllegalArgumentException(promotionType + "은 프로모션 할 수 있는 타입이 아닙니다.");
+        }
+    }
+
+    private static int toIndex(Square square) {
+        String name = square.getName();
+        return (name.charAt(1) - '1') * BOARD_LENGTH + (name.charAt(0) - 'a');
+    }
+
+    private static Square toSquare(int index) {
+        char file = (char) ('a' + index % BOARD_LENGTH);
+        char rank = (char) ('1' + index / BOARD_LENGTH);
+        return Square.of(String.valueOf(file) + rank);
+    }
+
+    public int pack() {
+        int promotionCode = NO_PROMOTION;
+        if (promotionType != null) {
+            promotionCode = PROMOTION_TYPES.indexOf(promotionType) + 1;
+        }
+        int code = promotionCode << PROMOTION_SHIFT;
+        if (hasMove()) {
+            code |= toIndex(moveInfo.getSource());
+            code |= toIndex(moveInfo.getTarget()) << TARGET_SHIFT;
+        }
+        return code;
+    }
+
+    public boolean hasMove() {
+        return moveInfo != null;
+    }
+
+    public MoveInfo getMoveInfo() {
+        if (!hasMove()) {
+            throw new IllegalStateException("이동 정보가 없는 승격 기록입니다.");
+        }
+        return moveInfo;
+    }
+
+    public Optional<Type> getPromotionType() {
+        return Optional.ofNullable(promotionType);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PackedMove that = (PackedMove) o;
+        return pack() == that.pack();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pack());
+    }
+}
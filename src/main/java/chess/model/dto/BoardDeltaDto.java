@@ -0,0 +1,122 @@
+package chess.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import util.NullChecker;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardDeltaDto {
+
+    private final int version;
+    private final Integer since;
+    private final List<String> pieces;
+    private final Map<Integer, String> changes;
+    private final String turn;
+    private final String state;
+    private final String blackScore;
+    private final String whiteScore;
+    private final String blackName;
+    private final String whiteName;
+    private final String winner;
+
+    private BoardDeltaDto(int version, Integer since, List<String> pieces,
+        Map<Integer, String> changes, ChessGameDto chessGameDto, ChessGameDto base) {
+        this.version = version;
+        this.since = since;
+        this.pieces = pieces;
+        this.changes = changes;
+        this.turn = changed(base, chessGameDto, ChessGameDto::getTurn);
+        this.state = chessGameDto.getState();
+        this.blackScore = changed(base, chessGameDto, ChessGameDto::getBlackScore);
+        this.whiteScore = changed(base, chessGameDto, ChessGameDto::getWhiteScore);
+        this.blackName = changed(base, chessGameDto, ChessGameDto::getBlackName);
+        this.whiteName = changed(base, chessGameDto, ChessGameDto::getWhiteName);
+        this.winner = changed(base, chessGameDto, ChessGameDto::getWinner);
+    }
+
+    public static BoardDeltaDto full(int version, ChessGameDto chessGameDto) {
+        NullChecker.validateNotNull(chessGameDto);
+        return new BoardDeltaDto(version, null, chessGameDto.getPieces(), null, chessGameDto,
+            null);
+    }
+
+    public static BoardDeltaDto of(int version, int since, ChessGameDto base,
+        ChessGameDto chessGameDto) {
+        NullChecker.validateNotNull(base, chessGameDto);
+        List<String> basePieces = base.getPieces();
+        List<String> pieces = chessGameDto.getPieces();
+        if (basePieces.size() != pieces.size()) {
+            return full(version, chessGameDto);
+        }
+        Map<Integer, String> changes = new TreeMap<>();
+        for (int i = 0; i < pieces.size(); i++) {
+            if (!Objects.equals(basePieces.get(i), pieces.get(i))) {
+                changes.put(i, pieces.get(i));
+            }
+        }
+        return new BoardDeltaDto(version, since, null, Collections.unmodifiableMap(changes),
+            chessGameDto, base);
+    }
+
+    private static String changed(ChessGameDto base, ChessGameDto chessGameDto,
+        Function<ChessGameDto, String> field) {
+        String value = field.apply(chessGameDto);
+        if (base != null && Objects.equals(field.apply(base), value)) {
+            return null;
+        }
+        return value;
+    }
+
+    public boolean isFull() {
+        return pieces != null;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Integer getSince() {
+        return since;
+    }
+
+    public List<String> getPieces() {
+        return pieces;
+    }
+
+    public Map<Integer, String> getChanges() {
+        return changes;
+    }
+
+    public String getTurn() {
+        return turn;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getBlackScore() {
+        return blackScore;
+    }
+
+    public String getWhiteScore() {
+        return whiteScore;
+    }
+
+    public String getBlackName() {
+        return blackName;
+    }
+
+    public String getWhiteName() {
+        return whiteName;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+}
@@ -9,11 +9,18 @@ public class GameInfoDto {
     private final Team turn;
     private final Map<Team, String> userNames;
     private final TeamScore teamScores;
+    private final Integer snapshotPly;
+    private final Team snapshotTurn;
+    private final Integer version;
 
-    public GameInfoDto(Team turn, Map<Team, String> userNames, TeamScore teamScores) {
+    public GameInfoDto(Team turn, Map<Team, String> userNames, TeamScore teamScores,
+        Integer snapshotPly, Team snapshotTurn, Integer version) {
         this.turn = turn;
         this.userNames = userNames;
         this.teamScores = teamScores;
+        this.snapshotPly = snapshotPly;
+        this.snapshotTurn = snapshotTurn;
+        this.version = version;
     }
 
     public Team getTurn() {
@@ -27,4 +34,16 @@ public class GameInfoDto {
     public TeamScore getTeamScores() {
         return teamScores;
     }
+
+    public Integer getSnapshotPly() {
+        return snapshotPly;
+    }
+
+    public Team getSnapshotTurn() {
+        return snapshotTurn;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
 }
@@ -14,6 +14,11 @@ public class GameResultDto {
         this.loseCount = loseCount;
     }
 
+    public GameResultDto add(GameResultDto gameResultDto) {
+        return new GameResultDto(winCount + gameResultDto.winCount,
+            drawCount + gameResultDto.drawCount, loseCount + gameResultDto.loseCount);
+    }
+
     public Integer getWinCount() {
         return winCount;
     }
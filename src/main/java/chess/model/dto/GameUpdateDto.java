@@ -0,0 +1,93 @@
+package chess.model.dto;
+
+import chess.model.domain.board.Square;
+import chess.model.domain.board.TeamScore;
+import chess.model.domain.piece.Piece;
+import chess.model.domain.piece.Team;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import util.NullChecker;
+
+public class GameUpdateDto {
+
+    private final Integer gameId;
+    private final Integer ply;
+    private final Team turn;
+    private final TeamScore teamScore;
+    private final List<MoveRecordDto> moveRecords;
+    private final boolean snapshot;
+    private final Map<Square, Piece> chessBoard;
+    private final Map<Square, Boolean> castlingElements;
+    private final Map<Square, Square> enPassants;
+
+    public GameUpdateDto(Integer gameId, Integer ply, Team turn, TeamScore teamScore,
+        List<MoveRecordDto> moveRecords, boolean snapshot, Map<Square, Piece> chessBoard,
+        Map<Square, Boolean> castlingElements, Map<Square, Square> enPassants) {
+        NullChecker.validateNotNull(gameId, ply, turn, teamScore, moveRecords, chessBoard,
+            castlingElements, enPassants);
+        this.gameId = gameId;
+        this.ply = ply;
+        this.turn = turn;
+        this.teamScore = teamScore;
+        this.moveRecords = Collections.unmodifiableList(new ArrayList<>(moveRecords));
+        this.snapshot = snapshot;
+        this.chessBoard = Collections.unmodifiableMap(new HashMap<>(chessBoard));
+        this.castlingElements = Collections.unmodifiableMap(new HashMap<>(castlingElements));
+        this.enPassants = Collections.unmodifiableMap(new HashMap<>(enPassants));
+    }
+
+    public GameUpdateDto append(GameUpdateDto newer) {
+        NullChecker.validateNotNull(newer);
+        if (!gameId.equals(newer.gameId)) {
+            throw new IllegalArgumentException("같은 게임의 변경만 합칠 수 있습니다.");
+        }
+        List<MoveRecordDto> moveRecords = new ArrayList<>(this.moveRecords);
+        moveRecords.addAll(newer.moveRecords);
+        return new GameUpdateDto(gameId, newer.ply, newer.turn, newer.teamScore, moveRecords,
+            snapshot || newer.snapshot, newer.chessBoard, newer.castlingElements,
+            newer.enPassants);
+    }
+
+    public Integer getGameId() {
+        return gameId;
+    }
+
+    public Integer getPly() {
+        return ply;
+    }
+
+    public Integer getVersion() {
+        return ply - moveRecords.size();
+    }
+
+    public Team getTurn() {
+        return turn;
+    }
+
+    public TeamScore getTeamScore() {
+        return teamScore;
+    }
+
+    public List<MoveRecordDto> getMoveRecords() {
+        return moveRecords;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public Map<Square, Piece> getChessBoard() {
+        return chessBoard;
+    }
+
+    public Map<Square, Boolean> getCastlingElements() {
+        return castlingElements;
+    }
+
+    public Map<Square, Square> getEnPassants() {
+        return enPassants;
+    }
+}
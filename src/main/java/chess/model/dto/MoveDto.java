@@ -5,14 +5,20 @@ public class MoveDto {
     private String source;
     private String target;
     private Integer gameId;
+    private String promotionType;
 
     public MoveDto() {
     }
 
     public MoveDto(String source, String target, Integer gameId) {
+        this(source, target, gameId, null);
+    }
+
+    public MoveDto(String source, String target, Integer gameId, String promotionType) {
         this.source = source;
         this.target = target;
         this.gameId = gameId;
+        this.promotionType = promotionType;
     }
 
     public String getSource() {
@@ -27,12 +33,17 @@ public class MoveDto {
         return gameId;
     }
 
+    public String getPromotionType() {
+        return promotionType;
+    }
+
     @Override
     public String toString() {
         return "MoveDto{" +
             "source='" + source + '\'' +
             ", target='" + target + '\'' +
             ", gameId=" + gameId +
+            ", promotionType='" + promotionType + '\'' +
             '}';
     }
 }
@@ -0,0 +1,29 @@
+package chess.model.dto;
+
+import util.NullChecker;
+
+public class MoveRecordDto {
+
+    private final Integer gameId;
+    private final Integer ply;
+    private final Integer moveCode;
+
+    public MoveRecordDto(Integer gameId, Integer ply, Integer moveCode) {
+        NullChecker.validateNotNull(gameId, ply, moveCode);
+        this.gameId = gameId;
+        this.ply = ply;
+        this.moveCode = moveCode;
+    }
+
+    public Integer getGameId() {
+        return gameId;
+    }
+
+    public Integer getPly() {
+        return ply;
+    }
+
+    public Integer getMoveCode() {
+        return moveCode;
+    }
+}
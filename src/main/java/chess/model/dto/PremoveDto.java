@@ -0,0 +1,42 @@
+package chess.model.dto;
+
+public class PremoveDto {
+
+    private String source;
+    private String target;
+    private String promotionType;
+    private String expectedSource;
+    private String expectedTarget;
+
+    public PremoveDto() {
+    }
+
+    public PremoveDto(String source, String target, String promotionType,
+        String expectedSource, String expectedTarget) {
+        this.source = source;
+        this.target = target;
+        this.promotionType = promotionType;
+        this.expectedSource = expectedSource;
+        this.expectedTarget = expectedTarget;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public String getPromotionType() {
+        return promotionType;
+    }
+
+    public String getExpectedSource() {
+        return expectedSource;
+    }
+
+    public String getExpectedTarget() {
+        return expectedTarget;
+    }
+}
@@ -0,0 +1,32 @@
+package chess.model.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PremovesDto {
+
+    private Integer gameId;
+    private String team;
+    private List<PremoveDto> premoves = new ArrayList<>();
+
+    public PremovesDto() {
+    }
+
+    public PremovesDto(Integer gameId, String team, List<PremoveDto> premoves) {
+        this.gameId = gameId;
+        this.team = team;
+        this.premoves = premoves;
+    }
+
+    public Integer getGameId() {
+        return gameId;
+    }
+
+    public String getTeam() {
+        return team;
+    }
+
+    public List<PremoveDto> getPremoves() {
+        return premoves;
+    }
+}
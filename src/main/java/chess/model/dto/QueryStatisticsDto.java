@@ -0,0 +1,51 @@
+package chess.model.dto;
+
+public class QueryStatisticsDto {
+
+    private final String fingerprint;
+    private final long count;
+    private final long rows;
+    private final double totalMillis;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public QueryStatisticsDto(String fingerprint, long count, long rows, double totalMillis,
+        double p50Millis, double p99Millis, double maxMillis) {
+        this.fingerprint = fingerprint;
+        this.count = count;
+        this.rows = rows;
+        this.totalMillis = totalMillis;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
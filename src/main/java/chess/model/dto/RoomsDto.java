@@ -1,18 +1,24 @@
 package chess.model.dto;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class RoomsDto {
 
     private final Map<Integer, String> rooms;
+    private final Integer nextCursor;
 
-    public RoomsDto(Map<Integer, String> rooms) {
-        this.rooms = Collections.unmodifiableMap(new HashMap<>(rooms));
+    public RoomsDto(Map<Integer, String> rooms, Integer nextCursor) {
+        this.rooms = Collections.unmodifiableMap(new LinkedHashMap<>(rooms));
+        this.nextCursor = nextCursor;
     }
 
     public Map<Integer, String> getRooms() {
         return rooms;
     }
+
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
 }
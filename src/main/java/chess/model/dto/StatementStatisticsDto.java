@@ -0,0 +1,53 @@
+package chess.model.dto;
+
+public class StatementStatisticsDto {
+
+    private static final String SERVER = "server";
+    private static final String ESTIMATE = "estimate";
+
+    private final String source;
+    private final long prepareCount;
+    private final long executeCount;
+    private final CacheStatisticsDto estimate;
+
+    private StatementStatisticsDto(String source, long prepareCount, long executeCount,
+        CacheStatisticsDto estimate) {
+        this.source = source;
+        this.prepareCount = prepareCount;
+        this.executeCount = executeCount;
+        this.estimate = estimate;
+    }
+
+    public static StatementStatisticsDto ofServer(long prepareCount, long executeCount,
+        CacheStatisticsDto estimate) {
+        return new StatementStatisticsDto(SERVER, prepareCount, executeCount, estimate);
+    }
+
+    public static StatementStatisticsDto ofEstimate(CacheStatisticsDto estimate) {
+        return new StatementStatisticsDto(ESTIMATE, estimate.getMissCount(),
+            estimate.getHitCount() + estimate.getMissCount(), estimate);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getPrepareCount() {
+        return prepareCount;
+    }
+
+    public long getExecuteCount() {
+        return executeCount;
+    }
+
+    public double getReuseRate() {
+        if (executeCount == 0) {
+            return 0;
+        }
+        return Math.max(0, 1 - (double) prepareCount / executeCount);
+    }
+
+    public CacheStatisticsDto getEstimate() {
+        return estimate;
+    }
+}
@@ -7,12 +7,18 @@ import java.util.List;
 public class UserNamesDto {
 
     private final List<String> userNames;
+    private final String nextCursor;
 
-    public UserNamesDto(List<String> userNames) {
+    public UserNamesDto(List<String> userNames, String nextCursor) {
         this.userNames = Collections.unmodifiableList(new ArrayList<>(userNames));
+        this.nextCursor = nextCursor;
     }
 
     public List<String> getUserNames() {
         return userNames;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
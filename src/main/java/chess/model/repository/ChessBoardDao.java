@@ -7,11 +7,15 @@ import chess.model.domain.board.EnPassant;
 import chess.model.domain.board.Square;
 import chess.model.domain.piece.Piece;
 import chess.model.domain.piece.PieceFactory;
+import chess.model.dto.GameUpdateDto;
 import chess.model.repository.template.JdbcTemplate;
 import chess.model.repository.template.PreparedStatementSetter;
 import chess.model.repository.template.ResultSetMapper;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,6 +23,36 @@ public class ChessBoardDao {
 
     private final static ChessBoardDao INSTANCE = new ChessBoardDao();
 
+    static final String CREATE_QUERY = makeQuery(
+        "INSERT INTO CHESS_BOARD_TB(GAME_ID, BOARDSQUARE_NM, PIECE_NM",
+        "                         , CASTLING_ELEMENT_YN, EN_PASSANT_NM)",
+        "VALUES (?, ?, ?, ?, ?)"
+    );
+    static final String FIND_CASTLING_ELEMENTS_QUERY = makeQuery(
+        "SELECT BOARDSQUARE_NM",
+        "     , PIECE_NM",
+        "  FROM CHESS_BOARD_TB",
+        " WHERE GAME_ID = ?",
+        "   AND CASTLING_ELEMENT_YN = 'Y'"
+    );
+    static final String FIND_ENPASSANT_BOARD_QUERY = makeQuery(
+        "SELECT EN_PASSANT_NM",
+        "     , BOARDSQUARE_NM",
+        "  FROM CHESS_BOARD_TB",
+        " WHERE GAME_ID = ?",
+        "   AND EN_PASSANT_NM IS NOT NULL"
+    );
+    static final String FIND_BOARD_QUERY = makeQuery(
+        "SELECT BOARDSQUARE_NM",
+        "     , PIECE_NM",
+        "  FROM CHESS_BOARD_TB",
+        " WHERE GAME_ID = ?"
+    );
+    static final String DELETE_QUERY = makeQuery(
+        "DELETE FROM CHESS_BOARD_TB",
+        " WHERE GAME_ID = ?"
+    );
+
     private ChessBoardDao() {
     }
 
@@ -29,37 +63,42 @@ public class ChessBoardDao {
     public void create(Integer gameId, Map<Square, Piece> chessBoard,
         Map<Square, Boolean> castlingElements, Map<Square, Square> enPassant) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "INSERT INTO CHESS_BOARD_TB(GAME_ID, BOARDSQUARE_NM, PIECE_NM, CASTLING_ELEMENT_YN, EN_PASSANT_NM)"
-            , "VALUES (?, ?, ?, ?, ?)"
-        );
+        PreparedStatementSetter pss = pstmt ->
+            addBoardBatch(pstmt, gameId, chessBoard, castlingElements, enPassant);
+        jdbcTemplate.executeUpdateWhenLoop(CREATE_QUERY, pss);
+    }
+
+    public void create(List<GameUpdateDto> gameUpdates) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
         PreparedStatementSetter pss = pstmt -> {
-            for (Square square : chessBoard.keySet()) {
-                pstmt.setInt(1, gameId);
-                pstmt.setString(2, square.getName());
-                pstmt.setString(3, PieceFactory.getName(chessBoard.get(square)));
-                pstmt.setString(4, JdbcTemplate.convertYN(castlingElements.get(square)));
-                pstmt.setObject(5, enPassant.keySet().stream()
-                    .filter(key -> enPassant.containsKey(square))
-                    .map(enSquare -> enPassant.get(square).getName())
-                    .findFirst()
-                    .orElse(null));
-                pstmt.addBatch();
-                pstmt.clearParameters();
+            for (GameUpdateDto gameUpdate : gameUpdates) {
+                addBoardBatch(pstmt, gameUpdate.getGameId(), gameUpdate.getChessBoard(),
+                    gameUpdate.getCastlingElements(), gameUpdate.getEnPassants());
             }
         };
-        jdbcTemplate.executeUpdateWhenLoop(query, pss);
+        jdbcTemplate.executeUpdateWhenLoop(CREATE_QUERY, pss);
+    }
+
+    private void addBoardBatch(PreparedStatement pstmt, Integer gameId,
+        Map<Square, Piece> chessBoard, Map<Square, Boolean> castlingElements,
+        Map<Square, Square> enPassant) throws SQLException {
+        for (Square square : chessBoard.keySet()) {
+            pstmt.setInt(1, gameId);
+            pstmt.setString(2, square.getName());
+            pstmt.setString(3, PieceFactory.getName(chessBoard.get(square)));
+            pstmt.setString(4, JdbcTemplate.convertYN(castlingElements.get(square)));
+            pstmt.setObject(5, enPassant.keySet().stream()
+                .filter(key -> enPassant.containsKey(square))
+                .map(enSquare -> enPassant.get(square).getName())
+                .findFirst()
+                .orElse(null));
+            pstmt.addBatch();
+            pstmt.clearParameters();
+        }
     }
 
     public Set<CastlingSetting> findCastlingElements(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT BOARDSQUARE_NM",
-            "     , PIECE_NM",
-            "  FROM CHESS_BOARD_TB",
-            " WHERE GAME_ID = ?",
-            "   AND CASTLING_ELEMENT_YN = 'Y'"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
         ResultSetMapper<Set<CastlingSetting>> mapper = rs -> {
             Set<CastlingSetting> castlingElements = new HashSet<>();
@@ -70,18 +109,11 @@ public class ChessBoardDao {
             }
             return castlingElements;
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_CASTLING_ELEMENTS_QUERY, pss, mapper);
     }
 
     public EnPassant findEnpassantBoard(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT EN_PASSANT_NM",
-            "     , BOARDSQUARE_NM",
-            "  FROM CHESS_BOARD_TB",
-            " WHERE GAME_ID = ?",
-            "   AND EN_PASSANT_NM IS NOT NULL"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
         ResultSetMapper<EnPassant> mapper = rs -> {
             Map<Square, Square> board = new HashMap<>();
@@ -91,17 +123,11 @@ public class ChessBoardDao {
             }
             return new EnPassant(board);
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_ENPASSANT_BOARD_QUERY, pss, mapper);
     }
 
     public Map<Square, Piece> findBoard(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT BOARDSQUARE_NM",
-            "     , PIECE_NM",
-            "  FROM CHESS_BOARD_TB",
-            " WHERE GAME_ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
         ResultSetMapper<Map<Square, Piece>> mapper = rs -> {
             Map<Square, Piece> board = new HashMap<>();
@@ -111,16 +137,24 @@ public class ChessBoardDao {
             }
             return board;
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_BOARD_QUERY, pss, mapper);
     }
 
     public void delete(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "DELETE FROM CHESS_BOARD_TB",
-            " WHERE GAME_ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
-        jdbcTemplate.executeUpdate(query, pss);
+        jdbcTemplate.executeUpdate(DELETE_QUERY, pss);
+    }
+
+    public void delete(Set<Integer> gameIds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> {
+            for (Integer gameId : gameIds) {
+                pstmt.setInt(1, gameId);
+                pstmt.addBatch();
+                pstmt.clearParameters();
+            }
+        };
+        jdbcTemplate.executeUpdateWhenLoop(DELETE_QUERY, pss);
     }
 }
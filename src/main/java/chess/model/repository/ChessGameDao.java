@@ -6,19 +6,98 @@ import static chess.model.repository.template.JdbcTemplate.makeQuery;
 import chess.model.domain.board.TeamScore;
 import chess.model.domain.piece.Team;
 import chess.model.dto.GameInfoDto;
+import chess.model.dto.GameUpdateDto;
 import chess.model.repository.template.JdbcTemplate;
 import chess.model.repository.template.PreparedStatementSetter;
 import chess.model.repository.template.ResultSetMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class ChessGameDao {
 
     private final static ChessGameDao INSTANCE = new ChessGameDao();
 
+    static final String CREATE_QUERY = makeQuery(
+        "INSERT INTO CHESS_GAME_TB(ROOM_ID, TURN_NM, BLACK_USER_NM, WHITE_USER_NM",
+        "                        , BLACK_SCORE, WHITE_SCORE, SNAPSHOT_TURN_NM)",
+        "VALUES (?, ?, ?, ?, ?, ?, ?)"
+    );
+    static final String FIND_PROCEED_GAME_ID_LATEST_QUERY = makeQuery(
+        "SELECT GAME.ID",
+        "  FROM CHESS_GAME_TB AS GAME",
+        "  JOIN ROOM_TB AS ROOM",
+        " WHERE GAME.ROOM_ID = ROOM.ID",
+        "   AND GAME.PROCEEDING_YN = 'Y'",
+        "   AND ROOM.ID = ?",
+        " ORDER BY ID DESC",
+        " LIMIT 1"
+    );
+    static final String FIND_CURRENT_TURN_QUERY = makeQuery(
+        "SELECT TURN_NM",
+        "  FROM CHESS_GAME_TB",
+        " WHERE ID = ?"
+    );
+    static final String FIND_ROOM_ID_QUERY = makeQuery(
+        "SELECT ROOM_ID",
+        "  FROM CHESS_GAME_TB",
+        " WHERE ID = ?"
+    );
+    static final String FIND_PROCEED_GAME_IDS_BY_QUERY = makeQuery(
+        "SELECT ID",
+        "  FROM CHESS_GAME_TB",
+        " WHERE ROOM_ID = ?",
+        "   AND PROCEEDING_YN = 'Y'"
+    );
+    static final String FIND_INFO_QUERY = makeQuery(
+        "SELECT TURN_NM",
+        "     , BLACK_USER_NM",
+        "     , WHITE_USER_NM",
+        "     , BLACK_SCORE",
+        "     , WHITE_SCORE",
+        "     , SNAPSHOT_PLY",
+        "     , SNAPSHOT_TURN_NM",
+        "     , VERSION",
+        "  FROM CHESS_GAME_TB",
+        " WHERE ID = ?",
+        "   AND PROCEEDING_YN = 'Y'"
+    );
+    static final String UPDATE_QUERY = makeQuery(
+        "UPDATE CHESS_GAME_TB",
+        "   SET TURN_NM = ?",
+        "     , BLACK_SCORE = ?",
+        "     , WHITE_SCORE = ?",
+        "     , VERSION = ?",
+        " WHERE ID = ?",
+        "   AND VERSION = ?",
+        "   AND PROCEEDING_YN = 'Y'"
+    );
+    static final String UPDATE_SNAPSHOT_QUERY = makeQuery(
+        "UPDATE CHESS_GAME_TB",
+        "   SET SNAPSHOT_PLY = ?",
+        "     , SNAPSHOT_TURN_NM = ?",
+        " WHERE ID = ?"
+    );
+    static final String UPDATE_PROCEED_N_QUERY = makeQuery(
+        "UPDATE CHESS_GAME_TB",
+        "   SET PROCEEDING_YN = 'N'",
+        " WHERE ID = ?"
+    );
+    static final String UPDATE_PROCEED_N_BY_QUERY = makeQuery(
+        "UPDATE CHESS_GAME_TB",
+        "   SET PROCEEDING_YN = 'N'",
+        " WHERE ROOM_ID = ?",
+        "   AND PROCEEDING_YN = 'Y'"
+    );
+    static final String DELETE_QUERY = makeQuery(
+        "DELETE FROM CHESS_GAME_TB",
+        " WHERE ID = ?"
+    );
+
     private ChessGameDao() {
     }
 
@@ -29,28 +108,14 @@ public class ChessGameDao {
     public Integer create(Integer roomId, Team gameTurn, Map<Team, String> userNames,
         TeamScore teamScore) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "INSERT INTO CHESS_GAME_TB(ROOM_ID, TURN_NM, BLACK_USER_NM, WHITE_USER_NM, BLACK_SCORE, WHITE_SCORE)",
-            "VALUES (?, ?, ?, ?, ?, ?)"
-        );
         PreparedStatementSetter pss = getPssFromParams(roomId, gameTurn.getName()
             , userNames.get(Team.BLACK), userNames.get(Team.WHITE)
-            , teamScore.get(Team.BLACK), teamScore.get(Team.WHITE));
-        return jdbcTemplate.executeUpdateWithGeneratedKey(query, pss);
+            , teamScore.get(Team.BLACK), teamScore.get(Team.WHITE), gameTurn.getName());
+        return jdbcTemplate.executeUpdateWithGeneratedKey(CREATE_QUERY, pss);
     }
 
     public Optional<Integer> findProceedGameIdLatest(Integer roomId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT GAME.ID",
-            "  FROM CHESS_GAME_TB AS GAME",
-            "  JOIN ROOM_TB AS ROOM",
-            " WHERE GAME.ROOM_ID = ROOM.ID",
-            "   AND GAME.PROCEEDING_YN = 'Y'",
-            "   AND ROOM.ID = ?",
-            " ORDER BY ID DESC",
-            " LIMIT 1"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, roomId);
         ResultSetMapper<Optional<Integer>> mapper = rs -> {
             if (!rs.next()) {
@@ -58,16 +123,11 @@ public class ChessGameDao {
             }
             return Optional.of(rs.getInt("ID"));
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_PROCEED_GAME_ID_LATEST_QUERY, pss, mapper);
     }
 
     public Optional<Team> findCurrentTurn(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT TURN_NM",
-            "  FROM CHESS_GAME_TB",
-            " WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
         ResultSetMapper<Optional<Team>> mapper = rs -> {
             if (!rs.next()) {
@@ -75,16 +135,11 @@ public class ChessGameDao {
             }
             return Optional.ofNullable(Team.of(rs.getString("TURN_NM")));
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_CURRENT_TURN_QUERY, pss, mapper);
     }
 
     public Optional<Integer> findRoomId(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT ROOM_ID",
-            "  FROM CHESS_GAME_TB",
-            " WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
         ResultSetMapper<Optional<Integer>> mapper = rs -> {
             if (!rs.next()) {
@@ -92,17 +147,11 @@ public class ChessGameDao {
             }
             return Optional.of(rs.getInt("ROOM_ID"));
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_ROOM_ID_QUERY, pss, mapper);
     }
 
     public List<Integer> findProceedGameIdsBy(Integer roomId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT ID",
-            "  FROM CHESS_GAME_TB",
-            " WHERE ROOM_ID = ?",
-            "   AND PROCEEDING_YN = 'Y'"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, roomId);
         ResultSetMapper<List<Integer>> mapper = rs -> {
             List<Integer> ids = new ArrayList<>();
@@ -111,21 +160,11 @@ public class ChessGameDao {
             }
             return ids;
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_PROCEED_GAME_IDS_BY_QUERY, pss, mapper);
     }
 
     public Optional<GameInfoDto> findInfo(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT TURN_NM",
-            "     , BLACK_USER_NM",
-            "     , WHITE_USER_NM",
-            "     , BLACK_SCORE",
-            "     , WHITE_SCORE",
-            "  FROM CHESS_GAME_TB",
-            " WHERE ID = ?",
-            "   AND PROCEEDING_YN = 'Y'"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
         ResultSetMapper<Optional<GameInfoDto>> mapper = rs -> {
             if (!rs.next()) {
@@ -138,46 +177,65 @@ public class ChessGameDao {
             teamScores.put(Team.BLACK, rs.getDouble("BLACK_SCORE"));
             teamScores.put(Team.WHITE, rs.getDouble("WHITE_SCORE"));
             return Optional.of(new GameInfoDto(Team.of(rs.getString("TURN_NM")), userNames,
-                new TeamScore(teamScores)));
+                new TeamScore(teamScores), rs.getInt("SNAPSHOT_PLY"),
+                Team.of(rs.getString("SNAPSHOT_TURN_NM")), rs.getInt("VERSION")));
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_INFO_QUERY, pss, mapper);
     }
 
-    public void update(Integer gameId, Team gameTurn, TeamScore teamScore, boolean proceed) {
+    public Set<Integer> update(List<GameUpdateDto> gameUpdates) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "UPDATE CHESS_GAME_TB",
-            "   SET TURN_NM = ?",
-            "     , BLACK_SCORE = ?",
-            "     , WHITE_SCORE = ?",
-            "     , PROCEEDING_YN = ?",
-            " WHERE ID = ?",
-            "   AND PROCEEDING_YN = 'Y'"
-        );
-        PreparedStatementSetter pss = getPssFromParams(gameTurn.getName(),
-            teamScore.get(Team.BLACK),
-            teamScore.get(Team.WHITE), JdbcTemplate.convertYN(proceed), gameId);
-        jdbcTemplate.executeUpdate(query, pss);
+        PreparedStatementSetter pss = pstmt -> {
+            for (GameUpdateDto gameUpdate : gameUpdates) {
+                pstmt.setString(1, gameUpdate.getTurn().getName());
+                pstmt.setDouble(2, gameUpdate.getTeamScore().get(Team.BLACK));
+                pstmt.setDouble(3, gameUpdate.getTeamScore().get(Team.WHITE));
+                pstmt.setInt(4, gameUpdate.getPly());
+                pstmt.setInt(5, gameUpdate.getGameId());
+                pstmt.setInt(6, gameUpdate.getVersion());
+                pstmt.addBatch();
+                pstmt.clearParameters();
+            }
+        };
+        int[] updatedCounts = jdbcTemplate.executeUpdateWhenLoop(UPDATE_QUERY, pss);
+        Set<Integer> conflictGameIds = new HashSet<>();
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (updatedCounts[i] == 0) {
+                conflictGameIds.add(gameUpdates.get(i).getGameId());
+            }
+        }
+        return conflictGameIds;
+    }
+
+    public void updateSnapshot(List<GameUpdateDto> gameUpdates) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> {
+            for (GameUpdateDto gameUpdate : gameUpdates) {
+                pstmt.setInt(1, gameUpdate.getPly());
+                pstmt.setString(2, gameUpdate.getTurn().getName());
+                pstmt.setInt(3, gameUpdate.getGameId());
+                pstmt.addBatch();
+                pstmt.clearParameters();
+            }
+        };
+        jdbcTemplate.executeUpdateWhenLoop(UPDATE_SNAPSHOT_QUERY, pss);
     }
 
     public void updateProceedN(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "UPDATE CHESS_GAME_TB",
-            "   SET PROCEEDING_YN = 'N'",
-            " WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
-        jdbcTemplate.executeUpdate(query, pss);
+        jdbcTemplate.executeUpdate(UPDATE_PROCEED_N_QUERY, pss);
+    }
+
+    public void updateProceedNBy(Integer roomId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, roomId);
+        jdbcTemplate.executeUpdate(UPDATE_PROCEED_N_BY_QUERY, pss);
     }
 
     public void delete(Integer gameId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "DELETE FROM CHESS_GAME_TB",
-            " WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
-        jdbcTemplate.executeUpdate(query, pss);
+        jdbcTemplate.executeUpdate(DELETE_QUERY, pss);
     }
 }
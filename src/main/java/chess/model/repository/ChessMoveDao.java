@@ -0,0 +1,93 @@
+package chess.model.repository;
+
+import static chess.model.repository.template.JdbcTemplate.makeQuery;
+
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.template.JdbcTemplate;
+import chess.model.repository.template.PreparedStatementSetter;
+import chess.model.repository.template.ResultSetMapper;
+import chess.model.repository.template.RowCallback;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ChessMoveDao {
+
+    private final static ChessMoveDao INSTANCE = new ChessMoveDao();
+
+    static final String CREATE_QUERY = makeQuery(
+        "INSERT INTO CHESS_MOVE_TB(GAME_ID, PLY, MOVE_CD)",
+        "VALUES (?, ?, ?)"
+    );
+    static final String FIND_MOVE_CODES_AFTER_QUERY = makeQuery(
+        "SELECT MOVE_CD",
+        "  FROM CHESS_MOVE_TB",
+        " WHERE GAME_ID = ?",
+        "   AND PLY > ?",
+        " ORDER BY PLY"
+    );
+    static final String FIND_ALL_AFTER_QUERY = makeQuery(
+        "SELECT GAME_ID",
+        "     , PLY",
+        "     , MOVE_CD",
+        "  FROM CHESS_MOVE_TB",
+        " WHERE GAME_ID > ?",
+        " ORDER BY GAME_ID, PLY"
+    );
+    static final String DELETE_QUERY = makeQuery(
+        "DELETE FROM CHESS_MOVE_TB",
+        " WHERE GAME_ID = ?"
+    );
+
+    private ChessMoveDao() {
+    }
+
+    public static ChessMoveDao getInstance() {
+        return INSTANCE;
+    }
+
+    public void create(List<MoveRecordDto> moveRecords) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> {
+            for (MoveRecordDto moveRecord : moveRecords) {
+                pstmt.setInt(1, moveRecord.getGameId());
+                pstmt.setInt(2, moveRecord.getPly());
+                pstmt.setInt(3, moveRecord.getMoveCode());
+                pstmt.addBatch();
+                pstmt.clearParameters();
+            }
+        };
+        jdbcTemplate.executeUpdateWhenLoop(CREATE_QUERY, pss);
+    }
+
+    public List<Integer> findMoveCodesAfter(Integer gameId, Integer ply) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> {
+            pstmt.setInt(1, gameId);
+            pstmt.setInt(2, ply);
+        };
+        ResultSetMapper<List<Integer>> mapper = rs -> {
+            List<Integer> moveCodes = new ArrayList<>();
+            while (rs.next()) {
+                moveCodes.add(rs.getInt("MOVE_CD"));
+            }
+            return moveCodes;
+        };
+        return jdbcTemplate.executeQuery(FIND_MOVE_CODES_AFTER_QUERY, pss, mapper);
+    }
+
+    public void findAllAfter(Integer afterGameId, int fetchSize,
+        Consumer<MoveRecordDto> consumer) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, afterGameId);
+        RowCallback callback = rs -> consumer.accept(new MoveRecordDto(rs.getInt("GAME_ID"),
+            rs.getInt("PLY"), rs.getInt("MOVE_CD")));
+        jdbcTemplate.executeQueryForEach(FIND_ALL_AFTER_QUERY, pss, fetchSize, callback);
+    }
+
+    public void delete(Integer gameId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, gameId);
+        jdbcTemplate.executeUpdate(DELETE_QUERY, pss);
+    }
+}
@@ -9,13 +9,92 @@ import chess.model.repository.template.PreparedStatementSetter;
 import chess.model.repository.template.ResultSetMapper;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 public class ChessResultDao {
 
     private final static ChessResultDao INSTANCE = new ChessResultDao();
 
+    static final String CREATE_USER_NAMES_QUERY = makeQuery(
+        "INSERT INTO CHESS_RESULT_TB(USER_NM)",
+        "VALUES (?)",
+        "    ON DUPLICATE KEY UPDATE USER_NM = USER_NM"
+    );
+    static final String FIND_USER_NAMES_QUERY = makeQuery(
+        "SELECT USER_NM",
+        "  FROM CHESS_RESULT_TB",
+        " WHERE USER_NM > ?",
+        " ORDER BY USER_NM",
+        " LIMIT ?"
+    );
+    static final String FIND_WIN_OR_DRAW_QUERY = makeQuery(
+        "SELECT WIN",
+        "     , DRAW",
+        "     , LOSE",
+        "  FROM CHESS_RESULT_TB",
+        " WHERE USER_NM = ?"
+    );
+    static final String UPDATE_QUERY = makeQuery(
+        "UPDATE CHESS_RESULT_TB",
+        "   SET WIN = ?",
+        "     , DRAW = ?",
+        "     , LOSE = ?",
+        " WHERE USER_NM = ?"
+    );
+    static final String ADD_RESULTS_QUERY = makeQuery(
+        "UPDATE CHESS_RESULT_TB",
+        "   SET WIN = WIN + ?",
+        "     , DRAW = DRAW + ?",
+        "     , LOSE = LOSE + ?",
+        " WHERE USER_NM = ?"
+    );
+    static final String ADD_RESULTS_OF_PROCEED_GAMES_QUERY = makeQuery(
+        "UPDATE CHESS_RESULT_TB",
+        "   SET WIN = WIN + (",
+        "       SELECT COALESCE(SUM(CASE WHEN BLACK_USER_NM = CHESS_RESULT_TB.USER_NM",
+        "                                 AND BLACK_SCORE > WHITE_SCORE THEN 1 ELSE 0 END",
+        "                         + CASE WHEN WHITE_USER_NM = CHESS_RESULT_TB.USER_NM",
+        "                                 AND WHITE_SCORE > BLACK_SCORE THEN 1 ELSE 0 END), 0)",
+        "         FROM CHESS_GAME_TB",
+        "        WHERE ROOM_ID = ?",
+        "          AND PROCEEDING_YN = 'Y')",
+        "     , DRAW = DRAW + (",
+        "       SELECT COALESCE(SUM(CASE WHEN BLACK_USER_NM = CHESS_RESULT_TB.USER_NM",
+        "                                THEN 1 ELSE 0 END",
+        "                         + CASE WHEN WHITE_USER_NM = CHESS_RESULT_TB.USER_NM",
+        "                                THEN 1 ELSE 0 END), 0)",
+        "         FROM CHESS_GAME_TB",
+        "        WHERE ROOM_ID = ?",
+        "          AND PROCEEDING_YN = 'Y'",
+        "          AND BLACK_SCORE = WHITE_SCORE)",
+        "     , LOSE = LOSE + (",
+        "       SELECT COALESCE(SUM(CASE WHEN BLACK_USER_NM = CHESS_RESULT_TB.USER_NM",
+        "                                 AND BLACK_SCORE < WHITE_SCORE THEN 1 ELSE 0 END",
+        "                         + CASE WHEN WHITE_USER_NM = CHESS_RESULT_TB.USER_NM",
+        "                                 AND WHITE_SCORE < BLACK_SCORE THEN 1 ELSE 0 END), 0)",
+        "         FROM CHESS_GAME_TB",
+        "        WHERE ROOM_ID = ?",
+        "          AND PROCEEDING_YN = 'Y')",
+        " WHERE USER_NM IN (",
+        "       SELECT BLACK_USER_NM",
+        "         FROM CHESS_GAME_TB",
+        "        WHERE ROOM_ID = ?",
+        "          AND PROCEEDING_YN = 'Y'",
+        "        UNION",
+        "       SELECT WHITE_USER_NM",
+        "         FROM CHESS_GAME_TB",
+        "        WHERE ROOM_ID = ?",
+        "          AND PROCEEDING_YN = 'Y')"
+    );
+    static final String DELETE_QUERY = makeQuery(
+        "DELETE FROM CHESS_RESULT_TB",
+        " WHERE USER_NM = ?"
+    );
+
     private ChessResultDao() {
     }
 
@@ -25,10 +104,6 @@ public class ChessResultDao {
 
     public void createUserNames(Set<String> userNames) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "INSERT INTO CHESS_RESULT_TB(USER_NM)",
-            "VALUES (?)"
-        );
         PreparedStatementSetter pss = pstmt -> {
             for (String userName : userNames) {
                 pstmt.setString(1, userName);
@@ -36,16 +111,12 @@ public class ChessResultDao {
                 pstmt.clearParameters();
             }
         };
-        jdbcTemplate.executeUpdateWhenLoop(query, pss);
+        jdbcTemplate.executeUpdateWhenLoop(CREATE_USER_NAMES_QUERY, pss);
     }
 
-    public List<String> findUserNames() {
+    public List<String> findUserNames(String afterUserName, int limit) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT USER_NM",
-            "  FROM CHESS_RESULT_TB",
-            " ORDER BY USER_NM"
-        );
+        PreparedStatementSetter pss = getPssFromParams(afterUserName, limit);
         ResultSetMapper<List<String>> mapper = rs -> {
             List<String> users = new ArrayList<>();
             while (rs.next()) {
@@ -53,19 +124,11 @@ public class ChessResultDao {
             }
             return users;
         };
-        return jdbcTemplate.executeQuery(query, pstmt -> {
-        }, mapper);
+        return jdbcTemplate.executeQuery(FIND_USER_NAMES_QUERY, pss, mapper);
     }
 
     public Optional<GameResultDto> findWinOrDraw(String userName) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT WIN",
-            "     , DRAW",
-            "     , LOSE",
-            "  FROM CHESS_RESULT_TB",
-            " WHERE USER_NM = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setString(1, userName);
         ResultSetMapper<Optional<GameResultDto>> mapper = rs -> {
             if (!rs.next()) {
@@ -74,29 +137,41 @@ public class ChessResultDao {
             return Optional
                 .of(new GameResultDto(rs.getInt("WIN"), rs.getInt("DRAW"), rs.getInt("LOSE")));
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_WIN_OR_DRAW_QUERY, pss, mapper);
     }
 
     public void update(String userName, GameResultDto gameResultDto) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "UPDATE CHESS_RESULT_TB",
-            "   SET WIN = ?",
-            "     , DRAW = ?",
-            "     , LOSE = ?",
-            " WHERE USER_NM = ?"
-        );
         PreparedStatementSetter pss = getPssFromParams(gameResultDto.getWinCount(),
             gameResultDto.getDrawCount(), gameResultDto.getLoseCount(), userName);
-        jdbcTemplate.executeUpdate(query, pss);
+        jdbcTemplate.executeUpdate(UPDATE_QUERY, pss);
+    }
+
+    public void addResults(Map<String, GameResultDto> gameResults) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        Map<String, GameResultDto> sortedGameResults = new TreeMap<>(gameResults);
+        PreparedStatementSetter pss = pstmt -> {
+            for (Entry<String, GameResultDto> gameResult : sortedGameResults.entrySet()) {
+                pstmt.setInt(1, gameResult.getValue().getWinCount());
+                pstmt.setInt(2, gameResult.getValue().getDrawCount());
+                pstmt.setInt(3, gameResult.getValue().getLoseCount());
+                pstmt.setString(4, gameResult.getKey());
+                pstmt.addBatch();
+                pstmt.clearParameters();
+            }
+        };
+        jdbcTemplate.executeUpdateWhenLoop(ADD_RESULTS_QUERY, pss);
+    }
+
+    public void addResultsOfProceedGames(Integer roomId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss
+            = getPssFromParams(roomId, roomId, roomId, roomId, roomId);
+        jdbcTemplate.executeUpdate(ADD_RESULTS_OF_PROCEED_GAMES_QUERY, pss);
     }
 
     public void delete(Set<String> userNames) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "DELETE FROM CHESS_RESULT_TB",
-            " WHERE USER_NM = ?"
-        );
         PreparedStatementSetter pss = pstmt -> {
             for (String userName : userNames) {
                 pstmt.setString(1, userName);
@@ -104,7 +179,7 @@ public class ChessResultDao {
                 pstmt.clearParameters();
             }
         };
-        jdbcTemplate.executeUpdateWhenLoop(query, pss);
+        jdbcTemplate.executeUpdateWhenLoop(DELETE_QUERY, pss);
     }
 }
 
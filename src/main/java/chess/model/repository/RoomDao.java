@@ -7,12 +7,41 @@ import chess.model.repository.template.JdbcTemplate;
 import chess.model.repository.template.PreparedStatementSetter;
 import chess.model.repository.template.ResultSetMapper;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class RoomDao {
 
     private final static RoomDao INSTANCE = new RoomDao();
 
+    static final String CREATE_QUERY = makeQuery(
+        "INSERT INTO ROOM_TB(NM, PW)",
+        "VALUES (?, ?)"
+    );
+    static final String FIND_INFO_QUERY = makeQuery(
+        "SELECT NM, PW, USED_YN",
+        "  FROM ROOM_TB",
+        " WHERE ID = ?"
+    );
+    static final String FIND_USED_QUERY = makeQuery(
+        "SELECT ID",
+        "     , NM",
+        "  FROM ROOM_TB",
+        " WHERE USED_YN = 'Y'",
+        "   AND ID > ?",
+        " ORDER BY ID",
+        " LIMIT ?"
+    );
+    static final String UPDATE_USED_N_QUERY = makeQuery(
+        "UPDATE ROOM_TB",
+        "SET USED_YN = 'N'",
+        "WHERE ID = ?"
+    );
+    static final String DELETE_QUERY = makeQuery(
+        "DELETE FROM ROOM_TB",
+        "WHERE ID = ?"
+    );
+
     private RoomDao() {
     }
 
@@ -22,21 +51,12 @@ public class RoomDao {
 
     public Integer create(String roomName, String roomPW) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "INSERT INTO ROOM_TB(NM, PW)",
-            "VALUES (?, ?)"
-        );
         PreparedStatementSetter pss = getPssFromParams(roomName, roomPW);
-        return jdbcTemplate.executeUpdateWithGeneratedKey(query, pss);
+        return jdbcTemplate.executeUpdateWithGeneratedKey(CREATE_QUERY, pss);
     }
 
     public Map<String, String> findInfo(Integer roomId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT NM, PW, USED_YN",
-            "  FROM ROOM_TB",
-            " WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, roomId);
         ResultSetMapper<Map<String, String>> mapper = rs -> {
             Map<String, String> result = new HashMap<>();
@@ -47,46 +67,31 @@ public class RoomDao {
             }
             return result;
         };
-        return jdbcTemplate.executeQuery(query, pss, mapper);
+        return jdbcTemplate.executeQuery(FIND_INFO_QUERY, pss, mapper);
     }
 
-    public Map<Integer, String> findUsed() {
+    public Map<Integer, String> findUsed(Integer afterRoomId, int limit) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "SELECT ID",
-            "     , NM",
-            "  FROM ROOM_TB",
-            " WHERE USED_YN = 'Y'"
-        );
+        PreparedStatementSetter pss = getPssFromParams(afterRoomId, limit);
         ResultSetMapper<Map<Integer, String>> mapper = rs -> {
-            Map<Integer, String> rooms = new HashMap<>();
+            Map<Integer, String> rooms = new LinkedHashMap<>();
             while (rs.next()) {
                 rooms.put(rs.getInt("ID"), rs.getString("NM"));
             }
             return rooms;
         };
-        return jdbcTemplate.executeQuery(query, pstmt -> {
-        }, mapper);
+        return jdbcTemplate.executeQuery(FIND_USED_QUERY, pss, mapper);
     }
 
     public void updateUsedN(Integer roomId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "UPDATE ROOM_TB",
-            "SET USED_YN = 'N'",
-            "WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, roomId);
-        jdbcTemplate.executeUpdate(query, pss);
+        jdbcTemplate.executeUpdate(UPDATE_USED_N_QUERY, pss);
     }
 
     public void delete(Integer roomId) {
         JdbcTemplate jdbcTemplate = new JdbcTemplate();
-        String query = makeQuery(
-            "DELETE FROM ROOM_TB",
-            "WHERE ID = ?"
-        );
         PreparedStatementSetter pss = pstmt -> pstmt.setInt(1, roomId);
-        jdbcTemplate.executeUpdate(query, pss);
+        jdbcTemplate.executeUpdate(DELETE_QUERY, pss);
     }
 }
@@ -0,0 +1,45 @@
+package chess.model.repository;
+
+import static chess.model.repository.template.JdbcTemplate.getPssFromParams;
+import static chess.model.repository.template.JdbcTemplate.makeQuery;
+
+import chess.model.repository.template.JdbcTemplate;
+import chess.model.repository.template.PreparedStatementSetter;
+import chess.model.repository.template.ResultSetMapper;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ServerStatusDao {
+
+    private final static ServerStatusDao INSTANCE = new ServerStatusDao();
+
+    public static final String STMT_PREPARE = "Com_stmt_prepare";
+    public static final String STMT_EXECUTE = "Com_stmt_execute";
+
+    static final String FIND_GLOBAL_STATUS_QUERY = makeQuery(
+        "SELECT VARIABLE_NAME",
+        "     , VARIABLE_VALUE",
+        "  FROM performance_schema.global_status",
+        " WHERE VARIABLE_NAME IN (?, ?)"
+    );
+
+    private ServerStatusDao() {
+    }
+
+    public static ServerStatusDao getInstance() {
+        return INSTANCE;
+    }
+
+    public Map<String, Long> findStatementCounters() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        PreparedStatementSetter pss = getPssFromParams(STMT_PREPARE, STMT_EXECUTE);
+        ResultSetMapper<Map<String, Long>> mapper = rs -> {
+            Map<String, Long> counters = new HashMap<>();
+            while (rs.next()) {
+                counters.put(rs.getString("VARIABLE_NAME"), rs.getLong("VARIABLE_VALUE"));
+            }
+            return counters;
+        };
+        return jdbcTemplate.executeQuery(FIND_GLOBAL_STATUS_QUERY, pss, mapper);
+    }
+}
@@ -0,0 +1,50 @@
+package chess.model.repository.connector;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import util.NullChecker;
+
+public class ChessConnector {
+
+    private static volatile DataSource dataSource;
+    private static volatile DataSource replicaDataSource;
+
+    private ChessConnector() {
+    }
+
+    public static void setDataSource(DataSource dataSource) {
+        NullChecker.validateNotNull(dataSource);
+        ChessConnector.dataSource = dataSource;
+    }
+
+    public static void setReplicaDataSource(DataSource replicaDataSource) {
+        ChessConnector.replicaDataSource = replicaDataSource;
+    }
+
+    static void clear() {
+        dataSource = null;
+        replicaDataSource = null;
+    }
+
+    public static Connection getConnection() throws SQLException {
+        ReadRouting.pinToPrimary();
+        return getPrimaryConnection();
+    }
+
+    public static Connection getReadConnection() throws SQLException {
+        DataSource currentReplica = replicaDataSource;
+        if (currentReplica == null || !ReadRouting.isReplicaReadable()) {
+            return getPrimaryConnection();
+        }
+        return currentReplica.getConnection();
+    }
+
+    private static Connection getPrimaryConnection() throws SQLException {
+        DataSource currentDataSource = dataSource;
+        if (currentDataSource == null) {
+            return ChessMySqlConnector.getConnection();
+        }
+        return currentDataSource.getConnection();
+    }
+}
@@ -0,0 +1,47 @@
+package chess.model.repository.connector;
+
+public class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static Scope openScope() {
+        return openScope(false);
+    }
+
+    public static Scope openScope(boolean pinnedToPrimary) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(pinnedToPrimary || Boolean.TRUE.equals(previous));
+        return new Scope(previous);
+    }
+
+    public static boolean isReplicaReadable() {
+        return Boolean.FALSE.equals(PRIMARY_PINNED.get());
+    }
+
+    public static void pinToPrimary() {
+        if (PRIMARY_PINNED.get() != null) {
+            PRIMARY_PINNED.set(true);
+        }
+    }
+
+    public static class Scope implements AutoCloseable {
+
+        private final Boolean previous;
+
+        private Scope(Boolean previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+                return;
+            }
+            PRIMARY_PINNED.set(previous || Boolean.TRUE.equals(PRIMARY_PINNED.get()));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package chess.model.repository.exception;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class GameConflictException extends DataAccessException {
+
+    private final Set<Integer> gameIds;
+
+    public GameConflictException(Set<Integer> gameIds) {
+        super("다른 요청이 먼저 게임을 변경했습니다. gameId : " + gameIds);
+        this.gameIds = Collections.unmodifiableSet(new HashSet<>(gameIds));
+    }
+
+    public Set<Integer> getGameIds() {
+        return gameIds;
+    }
+}
@@ -0,0 +1,143 @@
+package chess.model.repository.migration;
+
+import static chess.model.repository.template.JdbcTemplate.makeQuery;
+
+import chess.model.repository.exception.DataAccessException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SchemaMigrator {
+
+    private final static SchemaMigrator INSTANCE = new SchemaMigrator();
+
+    private static final String MIGRATION_PATH = "db/migration/";
+    private static final String BASELINE_TABLE_NAME = "CHESS_GAME_TB";
+    private static final int BASELINE_VERSION = 1;
+    private static final List<String> SCRIPT_NAMES = Collections.unmodifiableList(Arrays.asList(
+        "V1__create_tables.sql",
+        "V2__add_move_journal.sql",
+        "V3__add_indexes.sql",
+        "V4__add_game_version.sql"
+    ));
+
+    static final String CREATE_VERSION_TABLE_QUERY = makeQuery(
+        "CREATE TABLE IF NOT EXISTS SCHEMA_VERSION_TB (",
+        "       VERSION   INT          PRIMARY KEY",
+        "     , SCRIPT_NM VARCHAR(100) NOT NULL",
+        "     , REG_DT    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP",
+        ")"
+    );
+    static final String FIND_CURRENT_VERSION_QUERY = makeQuery(
+        "SELECT COALESCE(MAX(VERSION), 0) AS VERSION",
+        "  FROM SCHEMA_VERSION_TB"
+    );
+    static final String CREATE_VERSION_QUERY = makeQuery(
+        "INSERT INTO SCHEMA_VERSION_TB(VERSION, SCRIPT_NM)",
+        "VALUES (?, ?)"
+    );
+
+    private SchemaMigrator() {
+    }
+
+    public static SchemaMigrator getInstance() {
+        return INSTANCE;
+    }
+
+    public static List<String> getScriptNames() {
+        return SCRIPT_NAMES;
+    }
+
+    public int migrate(Connection conn) {
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(CREATE_VERSION_TABLE_QUERY);
+            }
+            int currentVersion = findCurrentVersion(conn);
+            if (currentVersion == 0 && hasBaselineTables(conn)) {
+                recordVersion(conn, BASELINE_VERSION, SCRIPT_NAMES.get(0));
+                currentVersion = BASELINE_VERSION;
+            }
+            for (String scriptName : SCRIPT_NAMES) {
+                int version = parseVersion(scriptName);
+                if (version > currentVersion) {
+                    apply(conn, version, scriptName);
+                    currentVersion = version;
+                }
+            }
+            return currentVersion;
+        } catch (SQLException e) {
+            throw new DataAccessException(e.getMessage());
+        }
+    }
+
+    private int findCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery(FIND_CURRENT_VERSION_QUERY)) {
+            rs.next();
+            return rs.getInt("VERSION");
+        }
+    }
+
+    private boolean hasBaselineTables(Connection conn) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(conn.getCatalog(), null,
+            BASELINE_TABLE_NAME, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    private void apply(Connection conn, int version, String scriptName) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String statement : readStatements(scriptName)) {
+                stmt.execute(statement);
+            }
+        }
+        recordVersion(conn, version, scriptName);
+    }
+
+    private void recordVersion(Connection conn, int version, String scriptName)
+        throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(CREATE_VERSION_QUERY)) {
+            pstmt.setInt(1, version);
+            pstmt.setString(2, scriptName);
+            pstmt.executeUpdate();
+        }
+    }
+
+    static int parseVersion(String scriptName) {
+        if (!scriptName.startsWith("V") || !scriptName.contains("__")) {
+            throw new IllegalArgumentException(
+                "마이그레이션 파일 이름이 올바르지 않습니다. " + scriptName);
+        }
+        return Integer.parseInt(scriptName.substring(1, scriptName.indexOf("__")));
+    }
+
+    public static List<String> readStatements(String scriptName) {
+        InputStream inputStream = SchemaMigrator.class.getClassLoader()
+            .getResourceAsStream(MIGRATION_PATH + scriptName);
+        if (inputStream == null) {
+            throw new IllegalArgumentException("마이그레이션 파일이 없습니다. " + scriptName);
+        }
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String script = reader.lines().collect(Collectors.joining("\n"));
+            return Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new DataAccessException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package chess.model.repository.template;
+
+import static chess.model.repository.connector.ChessConnector.getConnection;
+import static chess.model.repository.connector.ChessConnector.getReadConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+class ConnectionHandle implements AutoCloseable {
+
+    private static final ThreadLocal<Connection> TRANSACTION_CONNECTION = new ThreadLocal<>();
+
+    private final Connection connection;
+    private final boolean transactional;
+
+    private ConnectionHandle(Connection connection, boolean transactional) {
+        this.connection = connection;
+        this.transactional = transactional;
+    }
+
+    static ConnectionHandle forWrite() throws SQLException {
+        Connection transactionConnection = TRANSACTION_CONNECTION.get();
+        if (transactionConnection != null) {
+            return new ConnectionHandle(transactionConnection, true);
+        }
+        return new ConnectionHandle(getConnection(), false);
+    }
+
+    static ConnectionHandle forRead() throws SQLException {
+        Connection transactionConnection = TRANSACTION_CONNECTION.get();
+        if (transactionConnection != null) {
+            return new ConnectionHandle(transactionConnection, true);
+        }
+        return new ConnectionHandle(getReadConnection(), false);
+    }
+
+    static boolean isInTransaction() {
+        return TRANSACTION_CONNECTION.get() != null;
+    }
+
+    static void bind(Connection connection) {
+        TRANSACTION_CONNECTION.set(connection);
+    }
+
+    static void unbind() {
+        TRANSACTION_CONNECTION.remove();
+    }
+
+    Connection get() {
+        return connection;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!transactional) {
+            connection.close();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package chess.model.repository.template;
 
-import static chess.model.repository.connector.ChessMySqlConnector.getConnection;
+import static chess.model.repository.connector.ChessConnector.getConnection;
 
 import chess.model.repository.exception.DataAccessException;
 import java.sql.Connection;
@@ -8,9 +8,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.function.Supplier;
 
 public class JdbcTemplate {
 
+    private static final QueryMonitor QUERY_MONITOR = QueryMonitor.getInstance();
+
     public static PreparedStatementSetter getPssFromParams(Object... params) {
         return pstmt -> {
             for (int i = 0; i < params.length; i++) {
@@ -28,32 +32,88 @@ public class JdbcTemplate {
         return query.toString();
     }
 
+    public static void runInTransaction(Runnable work) {
+        executeInTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static <T> T executeInTransaction(Supplier<T> work) {
+        if (ConnectionHandle.isInTransaction()) {
+            return work.get();
+        }
+        try (Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            ConnectionHandle.bind(conn);
+            try {
+                T result = work.get();
+                conn.commit();
+                return result;
+            } catch (SQLException e) {
+                DataAccessException exception = new DataAccessException(e.getMessage());
+                rollback(conn, exception);
+                throw exception;
+            } catch (RuntimeException e) {
+                rollback(conn, e);
+                throw e;
+            } finally {
+                ConnectionHandle.unbind();
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException(e.getMessage());
+        }
+    }
+
+    private static void rollback(Connection conn, RuntimeException cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
     public void executeUpdate(String query, PreparedStatementSetter pss) {
-        try (Connection conn = getConnection();
-            PreparedStatement pstmt = conn.prepareStatement(query)) {
+        long start = System.nanoTime();
+        int rows = 0;
+        try (ConnectionHandle conn = ConnectionHandle.forWrite();
+            PreparedStatement pstmt = prepare(conn.get(), query)) {
             pss.setParameter(pstmt);
-            pstmt.executeUpdate();
+            rows = pstmt.executeUpdate();
         } catch (SQLException e) {
             throw new DataAccessException(e.getMessage());
+        } finally {
+            QUERY_MONITOR.record(query, System.nanoTime() - start, rows, 1);
         }
     }
 
-    public void executeUpdateWhenLoop(String query, PreparedStatementSetter loopPss) {
-        try (Connection conn = getConnection();
-            PreparedStatement pstmt = conn.prepareStatement(query)) {
+    public int[] executeUpdateWhenLoop(String query, PreparedStatementSetter loopPss) {
+        long start = System.nanoTime();
+        int[] updatedCounts = new int[0];
+        try (ConnectionHandle conn = ConnectionHandle.forWrite();
+            PreparedStatement pstmt = prepare(conn.get(), query)) {
             loopPss.setParameter(pstmt);
-            pstmt.executeBatch();
+            updatedCounts = pstmt.executeBatch();
+            return updatedCounts;
         } catch (SQLException e) {
             throw new DataAccessException(e.getMessage());
+        } finally {
+            QUERY_MONITOR.record(query, System.nanoTime() - start,
+                Arrays.stream(updatedCounts).filter(count -> count > 0).sum(),
+                updatedCounts.length);
         }
     }
 
     public int executeUpdateWithGeneratedKey(String query, PreparedStatementSetter pss) {
-        try (Connection conn = getConnection();
-            PreparedStatement pstmt =
-                conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+        long start = System.nanoTime();
+        int rows = 0;
+        try (ConnectionHandle conn = ConnectionHandle.forWrite();
+            PreparedStatement pstmt = prepare(conn.get(), query,
+                Statement.RETURN_GENERATED_KEYS)) {
             pss.setParameter(pstmt);
-            pstmt.executeUpdate();
+            rows = pstmt.executeUpdate();
             try (ResultSet rs = pstmt.getGeneratedKeys()) {
                 if (rs.next()) {
                     return rs.getInt(1);
@@ -62,22 +122,68 @@ public class JdbcTemplate {
             }
         } catch (SQLException e) {
             throw new DataAccessException(e.getMessage());
+        } finally {
+            QUERY_MONITOR.record(query, System.nanoTime() - start, rows, 1);
         }
     }
 
     public <T> T executeQuery(String query, PreparedStatementSetter pss,
         ResultSetMapper<T> mapper) {
-        try (Connection conn = getConnection();
-            PreparedStatement pstmt = conn.prepareStatement(query)) {
+        long start = System.nanoTime();
+        RowCounter rowCounter = new RowCounter();
+        try (ConnectionHandle conn = ConnectionHandle.forRead();
+            PreparedStatement pstmt = prepare(conn.get(), query)) {
             pss.setParameter(pstmt);
             try (ResultSet rs = pstmt.executeQuery()) {
-                return mapper.setRow(rs);
+                return mapper.setRow(rowCounter.wrap(rs));
             }
         } catch (SQLException e) {
             throw new DataAccessException(e.getMessage());
+        } finally {
+            QUERY_MONITOR.record(query, System.nanoTime() - start, rowCounter.getRows(), 1);
         }
     }
 
+    public void executeQueryForEach(String query, PreparedStatementSetter pss, int fetchSize,
+        RowCallback callback) {
+        long start = System.nanoTime();
+        long rows = 0;
+        try (ConnectionHandle conn = ConnectionHandle.forRead();
+            PreparedStatement pstmt = prepareForwardOnly(conn.get(), query)) {
+            pstmt.setFetchSize(fetchSize);
+            pss.setParameter(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                    callback.processRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException(e.getMessage());
+        } finally {
+            QUERY_MONITOR.record(query, System.nanoTime() - start, rows, 1);
+        }
+    }
+
+    private static PreparedStatement prepare(Connection conn, String query)
+        throws SQLException {
+        StatementCacheMonitor.getInstance().record(conn, query);
+        return conn.prepareStatement(query);
+    }
+
+    private static PreparedStatement prepare(Connection conn, String query,
+        int autoGeneratedKeys) throws SQLException {
+        StatementCacheMonitor.getInstance().record(conn, query);
+        return conn.prepareStatement(query, autoGeneratedKeys);
+    }
+
+    private static PreparedStatement prepareForwardOnly(Connection conn, String query)
+        throws SQLException {
+        StatementCacheMonitor.getInstance().record(conn, query);
+        return conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+    }
+
     public static String convertYN(boolean changer) {
         return changer ? "Y" : "N";
     }
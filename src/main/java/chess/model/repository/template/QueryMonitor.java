@@ -0,0 +1,116 @@
+package chess.model.repository.template;
+
+import chess.model.dto.QueryStatisticsDto;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class QueryMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryMonitor.class);
+    private static final QueryMonitor INSTANCE = new QueryMonitor();
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int SAMPLE_SIZE = 1024;
+    private static final long DEFAULT_SLOW_THRESHOLD_MILLIS = 200;
+
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, Integer> parameterCounts = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private volatile long slowThresholdNanos
+        = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_THRESHOLD_MILLIS);
+
+    private QueryMonitor() {
+    }
+
+    public static QueryMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("slow query 기준은 0 이상이어야 합니다.");
+        }
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    public void record(String query, long elapsedNanos, long rows, int executions) {
+        String fingerprint = fingerprints.computeIfAbsent(query, QueryMonitor::fingerprint);
+        statistics.computeIfAbsent(fingerprint, key -> new Statistics())
+            .add(elapsedNanos, rows);
+        if (elapsedNanos >= slowThresholdNanos) {
+            LOGGER.warn("slow query {}ms rows={} executions={} parameters={} : {}",
+                toMillis(elapsedNanos), rows, executions,
+                parameterCounts.computeIfAbsent(query, QueryMonitor::countParameters)
+                    * executions, fingerprint);
+        }
+    }
+
+    static String fingerprint(String query) {
+        String fingerprint = STRING_LITERAL.matcher(query).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+    }
+
+    private static int countParameters(String query) {
+        return (int) STRING_LITERAL.matcher(query).replaceAll("").chars()
+            .filter(character -> character == '?')
+            .count();
+    }
+
+    public List<QueryStatisticsDto> getStatistics() {
+        return statistics.entrySet().stream()
+            .map(entry -> entry.getValue().toDto(entry.getKey()))
+            .sorted(Comparator.comparingDouble(QueryStatisticsDto::getTotalMillis).reversed())
+            .collect(Collectors.toList());
+    }
+
+    public void clear() {
+        statistics.clear();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Statistics {
+
+        private final long[] samples = new long[SAMPLE_SIZE];
+        private long count;
+        private long rows;
+        private long totalNanos;
+        private long maxNanos;
+
+        private synchronized void add(long elapsedNanos, long rows) {
+            samples[(int) (count % SAMPLE_SIZE)] = elapsedNanos;
+            this.count++;
+            this.rows += rows;
+            this.totalNanos += elapsedNanos;
+            this.maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+
+        private synchronized QueryStatisticsDto toDto(String fingerprint) {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, SAMPLE_SIZE));
+            Arrays.sort(sorted);
+            return new QueryStatisticsDto(fingerprint, count, rows, toMillis(totalNanos),
+                toMillis(percentile(sorted, 0.5)), toMillis(percentile(sorted, 0.99)),
+                toMillis(maxNanos));
+        }
+
+        private long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+    }
+}
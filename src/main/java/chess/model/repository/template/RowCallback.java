@@ -0,0 +1,10 @@
+package chess.model.repository.template;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface RowCallback {
+
+    void processRow(ResultSet rs) throws SQLException;
+}
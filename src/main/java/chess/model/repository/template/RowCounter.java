@@ -0,0 +1,29 @@
+package chess.model.repository.template;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+class RowCounter {
+
+    private long rows;
+
+    ResultSet wrap(ResultSet rs) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                try {
+                    Object result = method.invoke(rs, args);
+                    if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    long getRows() {
+        return rows;
+    }
+}
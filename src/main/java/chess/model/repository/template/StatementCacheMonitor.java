@@ -0,0 +1,86 @@
+package chess.model.repository.template;
+
+import chess.model.dto.CacheStatisticsDto;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StatementCacheMonitor {
+
+    private static final StatementCacheMonitor INSTANCE = new StatementCacheMonitor();
+    private static final int DEFAULT_CACHE_SIZE = 250;
+
+    private final Map<Connection, PreparedQueries> preparedQueries
+        = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private volatile int cacheSize = DEFAULT_CACHE_SIZE;
+
+    private StatementCacheMonitor() {
+    }
+
+    public static StatementCacheMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("statement cache 크기는 0보다 커야 합니다.");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    public void record(Connection conn, String query) throws SQLException {
+        preparedQueries.computeIfAbsent(unwrap(conn), key -> new PreparedQueries())
+            .record(query);
+    }
+
+    private Connection unwrap(Connection conn) throws SQLException {
+        if (conn.isWrapperFor(Connection.class)) {
+            return conn.unwrap(Connection.class);
+        }
+        return conn;
+    }
+
+    public CacheStatisticsDto getStatistics() {
+        List<PreparedQueries> connections;
+        synchronized (preparedQueries) {
+            connections = new ArrayList<>(preparedQueries.values());
+        }
+        int size = connections.stream()
+            .mapToInt(PreparedQueries::size)
+            .sum();
+        return new CacheStatisticsDto(hitCount.sum(), missCount.sum(), evictionCount.sum(),
+            size);
+    }
+
+    private class PreparedQueries {
+
+        private final LinkedHashMap<String, Boolean> queries
+            = new LinkedHashMap<>(16, 0.75f, true);
+
+        private synchronized void record(String query) {
+            if (queries.get(query) != null) {
+                hitCount.increment();
+                return;
+            }
+            missCount.increment();
+            queries.put(query, Boolean.TRUE);
+            if (queries.size() > cacheSize) {
+                queries.remove(queries.keySet().iterator().next());
+                evictionCount.increment();
+            }
+        }
+
+        private synchronized int size() {
+            return queries.size();
+        }
+    }
+}
@@ -12,22 +12,45 @@ import chess.model.domain.piece.Team;
 import chess.model.domain.piece.Type;
 import chess.model.domain.state.MoveInfo;
 import chess.model.domain.state.MoveState;
+import chess.model.domain.state.PackedMove;
+import chess.model.dto.BoardDeltaDto;
 import chess.model.dto.ChessGameDto;
 import chess.model.dto.GameInfoDto;
 import chess.model.dto.GameResultDto;
+import chess.model.dto.GameUpdateDto;
 import chess.model.dto.MoveDto;
+import chess.model.dto.MoveRecordDto;
 import chess.model.dto.PathDto;
+import chess.model.dto.PremovesDto;
 import chess.model.dto.PromotionTypeDto;
 import chess.model.dto.SourceDto;
 import chess.model.repository.ChessBoardDao;
 import chess.model.repository.ChessGameDao;
+import chess.model.repository.ChessMoveDao;
 import chess.model.repository.ChessResultDao;
+import chess.model.repository.connector.ReadRouting;
+import chess.model.repository.exception.GameConflictException;
+import chess.model.repository.template.JdbcTemplate;
+import chess.service.cache.CachedGame;
+import chess.service.cache.ChessGameCache;
+import chess.service.cache.ChessGameWriteBehind;
+import chess.service.cache.ChessGameWriter;
+import chess.service.lane.GameLaneExecutor;
+import chess.service.premove.Premove;
+import chess.service.premove.PremoveQueue;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -36,6 +59,28 @@ public class ChessGameService {
     private static final ChessGameDao CHESS_GAME_DAO = ChessGameDao.getInstance();
     private static final ChessBoardDao CHESS_BOARD_DAO = ChessBoardDao.getInstance();
     private static final ChessResultDao CHESS_RESULT_DAO = ChessResultDao.getInstance();
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+    private static final int MAX_CONFLICT_ATTEMPTS = 3;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChessGameService.class);
+
+    private final ChessGameCache chessGameCache;
+    private final ChessGameWriter chessGameWriter;
+    private final ChessGameWriteBehind chessGameWriteBehind;
+    private final GameLaneExecutor gameLaneExecutor;
+    private final PremoveQueue premoveQueue;
+    private final List<GameUpdateListener> gameUpdateListeners;
+
+    public ChessGameService(ChessGameCache chessGameCache, ChessGameWriter chessGameWriter,
+        ChessGameWriteBehind chessGameWriteBehind, GameLaneExecutor gameLaneExecutor,
+        PremoveQueue premoveQueue, List<GameUpdateListener> gameUpdateListeners) {
+        this.chessGameCache = chessGameCache;
+        this.chessGameWriter = chessGameWriter;
+        this.chessGameWriteBehind = chessGameWriteBehind;
+        this.gameLaneExecutor = gameLaneExecutor;
+        this.premoveQueue = premoveQueue;
+        this.gameUpdateListeners = Collections.unmodifiableList(gameUpdateListeners);
+        chessGameWriteBehind.setConflictHandler(this::publishReloaded);
+    }
 
     public Integer create(Integer roomId, Map<Team, String> userNames) {
         Integer gameId = saveNewGameInfo(userNames, roomId);
@@ -51,62 +96,246 @@ public class ChessGameService {
         CHESS_BOARD_DAO.create(gameId, chessGame.getChessBoard(),
             makeCastlingElements(chessGame.getChessBoard(), chessGame.getCastlingElements()),
             makeEnPassants(chessGame));
+        chessGameCache.put(gameId, new CachedGame(chessGame, userNames, 0));
         return gameId;
     }
 
     public void saveNewUserNames(Map<Team, String> userNames) {
-        Set<String> noExistingUserName = userNames.values().stream()
-            .filter(userName -> !CHESS_RESULT_DAO.findUserNames().contains(userName))
-            .collect(Collectors.toSet());
-        if (!noExistingUserName.isEmpty()) {
-            CHESS_RESULT_DAO.createUserNames(noExistingUserName);
-        }
+        CHESS_RESULT_DAO.createUserNames(new HashSet<>(userNames.values()));
     }
 
     public ChessGameDto move(MoveDto moveDTO) {
-        Integer gameId = moveDTO.getGameId();
-        GameInfoDto gameInfo = getGameInfo(gameId);
-        ChessGame chessGame = combineChessGame(gameId, gameInfo.getTurn());
-        MoveState moveState
-            = chessGame.move(new MoveInfo(moveDTO.getSource(), moveDTO.getTarget()));
-        Map<Team, String> userNames = gameInfo.getUserNames();
+        return moveInLane(moveDTO).chessGameDto;
+    }
 
-        updateChessBoard(gameId, chessGame, moveState);
-        boolean proceed = !updateResult(chessGame, moveState, userNames);
-        updateGameInfo(gameId, chessGame, proceed);
+    public BoardDeltaDto move(MoveDto moveDTO, Integer since) {
+        return moveInLane(moveDTO).deltaSince(since);
+    }
 
-        return new ChessGameDto(chessGame, moveState, chessGame.deriveTeamScore(), userNames);
+    private GameResponse moveInLane(MoveDto moveDTO) {
+        Integer gameId = moveDTO.getGameId();
+        return gameLaneExecutor.execute(gameId, () -> {
+            GameResponse response = retryOnConflict(gameId, () -> moveOnce(moveDTO));
+            applyPremoves(gameId, response.cachedGame);
+            return response;
+        });
     }
 
-    private GameInfoDto getGameInfo(Integer gameId) {
-        return CHESS_GAME_DAO.findInfo(gameId)
-            .orElseThrow(() -> new IllegalArgumentException("gameId(" + gameId + ")가 없습니다."));
+    public ChessGameDto submitPremoves(PremovesDto premovesDto) {
+        Integer gameId = premovesDto.getGameId();
+        Team team = Team.of(premovesDto.getTeam());
+        List<Premove> premoves = premovesDto.getPremoves().stream()
+            .map(Premove::of)
+            .collect(Collectors.toList());
+        return gameLaneExecutor.execute(gameId, () -> {
+            CachedGame cachedGame = getActiveGame(gameId);
+            premoveQueue.submit(gameId, team, premoves);
+            CachedGame currentGame = applyPremoves(gameId, cachedGame);
+            return new ChessGameDto(currentGame.copyChessGame(), currentGame.getUserNames());
+        });
+    }
+
+    private CachedGame applyPremoves(Integer gameId, CachedGame cachedGame) {
+        CachedGame currentGame = cachedGame;
+        Optional<Premove> premove;
+        while ((premove = premoveQueue.poll(gameId, currentGame.getTurn())).isPresent()) {
+            Team team = currentGame.getTurn();
+            MoveDto moveDto = premove.get().toMoveDto(gameId);
+            try {
+                CachedGame movedGame
+                    = retryOnConflict(gameId, () -> moveOnce(moveDto)).cachedGame;
+                if (movedGame == currentGame) {
+                    premoveQueue.clear(gameId, team);
+                    return currentGame;
+                }
+                currentGame = movedGame;
+            } catch (RuntimeException e) {
+                LOGGER.warn("예약 수를 적용하지 못했습니다. gameId : {}, move : {}",
+                    gameId, moveDto, e);
+                premoveQueue.clear(gameId, team);
+                return currentGame;
+            }
+        }
+        return currentGame;
     }
 
-    private void updateGameInfo(Integer gameId, ChessGame chessGame, boolean proceed) {
-        CHESS_GAME_DAO.update(gameId, chessGame.getTurn(), chessGame.deriveTeamScore(), proceed);
+    private GameResponse moveOnce(MoveDto moveDTO) {
+        Integer gameId = moveDTO.getGameId();
+        CachedGame cachedGame = getActiveGame(gameId);
+        ChessGame chessGame = cachedGame.copyChessGame();
+        MoveInfo moveInfo = new MoveInfo(moveDTO.getSource(), moveDTO.getTarget());
+        Optional<Type> promotionType = Optional.ofNullable(moveDTO.getPromotionType())
+            .map(Type::of);
+        MoveState moveState = chessGame.move(moveInfo);
+        Map<Team, String> userNames = cachedGame.getUserNames();
+
+        if (promotionType.isPresent()) {
+            moveState = promoteAfterMove(chessGame, moveState, promotionType.get());
+        }
+        if (!moveState.isSucceed()) {
+            ChessGame currentGame = cachedGame.copyChessGame();
+            return new GameResponse(new ChessGameDto(currentGame, moveState,
+                currentGame.deriveTeamScore(), userNames), cachedGame);
+        }
+        ChessGameDto chessGameDto
+            = new ChessGameDto(chessGame, moveState, chessGame.deriveTeamScore(), userNames);
+        boolean proceed = moveState != MoveState.KING_CAPTURED;
+        PackedMove packedMove = promotionType
+            .map(type -> PackedMove.ofMove(moveInfo, type))
+            .orElseGet(() -> PackedMove.ofMove(moveInfo));
+        CachedGame savedGame = saveGame(gameId, cachedGame, chessGame, chessGameDto,
+            packedMove, proceed);
+        premoveQueue.recordMove(gameId, moveInfo);
+        notifyUpdated(gameId, savedGame.getPly(), chessGameDto);
+        return new GameResponse(chessGameDto, savedGame);
     }
 
-    private boolean updateResult(ChessGame chessGame, MoveState moveState,
-        Map<Team, String> userNames) {
+    private MoveState promoteAfterMove(ChessGame chessGame, MoveState moveState,
+        Type promotionType) {
+        if (moveState == MoveState.SUCCESS) {
+            return MoveState.NO_PAWN_PROMOTION;
+        }
         if (moveState == MoveState.KING_CAPTURED) {
-            for (Team team : Team.values()) {
-                setGameResult(chessGame.deriveTeamScore(), userNames, team);
+            return promoteAfterKingCaptured(chessGame, promotionType);
+        }
+        if (moveState != MoveState.SUCCESS_BUT_PAWN_PROMOTION) {
+            return moveState;
+        }
+        return chessGame.promote(promotionType);
+    }
+
+    private MoveState promoteAfterKingCaptured(ChessGame chessGame, Type promotionType) {
+        if (chessGame.promote(promotionType) == MoveState.SUCCESS_PROMOTION) {
+            return MoveState.KING_CAPTURED;
+        }
+        return MoveState.NO_PAWN_PROMOTION;
+    }
+
+    private void notifyUpdated(Integer gameId, int version, ChessGameDto chessGameDto) {
+        for (GameUpdateListener gameUpdateListener : gameUpdateListeners) {
+            gameUpdateListener.onGameUpdated(gameId, version, chessGameDto);
+        }
+    }
+
+    private void publishReloaded(Set<Integer> gameIds) {
+        for (Integer gameId : gameIds) {
+            gameLaneExecutor.submit(gameId, () -> {
+                CachedGame cachedGame = getActiveGame(gameId);
+                notifyUpdated(gameId, cachedGame.getPly(), new ChessGameDto(
+                    cachedGame.copyChessGame(), cachedGame.getUserNames()));
+                return cachedGame;
+            }).exceptionally(e -> {
+                LOGGER.warn("충돌한 게임을 다시 불러오지 못했습니다. gameId : {}", gameId, e);
+                return null;
+            });
+        }
+    }
+
+    private <T> T retryOnConflict(Integer gameId, Supplier<T> request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return request.get();
+            } catch (GameConflictException e) {
+                chessGameCache.invalidate(gameId);
+                ReadRouting.pinToPrimary();
+                if (attempt >= MAX_CONFLICT_ATTEMPTS) {
+                    throw e;
+                }
             }
-            return true;
         }
-        return false;
     }
 
-    private void updateChessBoard(Integer gameId, ChessGame chessGame, MoveState moveState) {
-        if (moveState.isSucceed()) {
-            CHESS_BOARD_DAO.delete(gameId);
-            CHESS_BOARD_DAO.create(gameId, chessGame.getChessBoard(),
-                makeCastlingElements(chessGame.getChessBoard(), chessGame.getCastlingElements()),
-                makeEnPassants(chessGame));
+    private CachedGame getActiveGame(Integer gameId) {
+        return chessGameCache.find(gameId)
+            .orElseGet(() -> loadActiveGame(gameId));
+    }
+
+    private CachedGame loadActiveGame(Integer gameId) {
+        ReadRouting.pinToPrimary();
+        chessGameWriteBehind.flush(gameId);
+        GameInfoDto gameInfo = getGameInfo(gameId);
+        ChessGame chessGame = combineChessGame(gameId, gameInfo.getSnapshotTurn());
+        List<Integer> moveCodes
+            = CHESS_MOVE_DAO.findMoveCodesAfter(gameId, gameInfo.getSnapshotPly());
+        for (Integer moveCode : moveCodes) {
+            replay(chessGame, PackedMove.of(moveCode));
+        }
+        validateVersion(gameId, gameInfo, moveCodes);
+        CachedGame cachedGame
+            = new CachedGame(chessGame, gameInfo.getUserNames(), gameInfo.getVersion());
+        chessGameCache.put(gameId, cachedGame);
+        return cachedGame;
+    }
+
+    private void validateVersion(Integer gameId, GameInfoDto gameInfo, List<Integer> moveCodes) {
+        int journalPly = gameInfo.getSnapshotPly() + moveCodes.size();
+        if (journalPly != gameInfo.getVersion()) {
+            throw new IllegalStateException("기보와 게임 버전이 일치하지 않습니다. gameId : " + gameId
+                + ", version : " + gameInfo.getVersion() + ", journal : " + journalPly);
+        }
+    }
+
+    private void replay(ChessGame chessGame, PackedMove packedMove) {
+        if (packedMove.hasMove()) {
+            validateReplay(chessGame.move(packedMove.getMoveInfo()));
+        }
+        packedMove.getPromotionType()
+            .ifPresent(type -> validateReplay(chessGame.promote(type)));
+    }
+
+    private void validateReplay(MoveState moveState) {
+        if (!moveState.isSucceed()) {
+            throw new IllegalStateException("기보를 재현할 수 없습니다 : " + moveState);
         }
     }
 
+    private CachedGame saveGame(Integer gameId, CachedGame cachedGame, ChessGame chessGame,
+        ChessGameDto board, PackedMove packedMove, boolean proceed) {
+        CachedGame savedGame = cachedGame.next(chessGame, board);
+        int ply = savedGame.getPly();
+        GameUpdateDto gameUpdate = makeGameUpdate(gameId, ply, chessGame, packedMove,
+            !proceed || chessGameWriter.isSnapshotPly(ply));
+        if (!chessGameCache.replace(gameId, cachedGame, savedGame)) {
+            throw new GameConflictException(Collections.singleton(gameId));
+        }
+        if (chessGameWriteBehind.isEnabled() && proceed) {
+            chessGameWriteBehind.enqueue(gameUpdate);
+            return savedGame;
+        }
+        try {
+            chessGameWriteBehind.flush(gameId);
+            JdbcTemplate.runInTransaction(() -> {
+                chessGameWriter.write(Collections.singletonList(gameUpdate));
+                if (!proceed) {
+                    CHESS_GAME_DAO.updateProceedN(gameId);
+                    saveGameResult(chessGame.deriveTeamScore(), cachedGame.getUserNames());
+                }
+            });
+        } catch (RuntimeException e) {
+            chessGameCache.invalidate(gameId);
+            throw e;
+        }
+        if (!proceed) {
+            chessGameCache.invalidate(gameId);
+            premoveQueue.clear(gameId);
+        }
+        return savedGame;
+    }
+
+    private GameUpdateDto makeGameUpdate(Integer gameId, int ply, ChessGame chessGame,
+        PackedMove packedMove, boolean snapshot) {
+        return new GameUpdateDto(gameId, ply, chessGame.getTurn(), chessGame.deriveTeamScore(),
+            Collections.singletonList(new MoveRecordDto(gameId, ply, packedMove.pack())),
+            snapshot, chessGame.getChessBoard(),
+            makeCastlingElements(chessGame.getChessBoard(), chessGame.getCastlingElements()),
+            makeEnPassants(chessGame));
+    }
+
+    private GameInfoDto getGameInfo(Integer gameId) {
+        return CHESS_GAME_DAO.findInfo(gameId)
+            .orElseThrow(() -> new IllegalArgumentException("gameId(" + gameId + ")가 없습니다."));
+    }
+
     private Map<Square, Square> makeEnPassants(ChessGame chessGame) {
         return chessGame.getEnPassants().entrySet().stream()
             .collect(Collectors.toMap(Entry::getValue, Entry::getKey));
@@ -114,9 +343,19 @@ public class ChessGameService {
 
     public void closeGamesOf(Integer roomId) {
         List<Integer> proceedGameIds = CHESS_GAME_DAO.findProceedGameIdsBy(roomId);
-        for (Integer gameId : proceedGameIds) {
-            closeGame(gameId);
+        if (proceedGameIds.isEmpty()) {
+            return;
         }
+        gameLaneExecutor.executeAll(proceedGameIds, () -> {
+            proceedGameIds.forEach(chessGameCache::invalidate);
+            proceedGameIds.forEach(premoveQueue::clear);
+            chessGameWriteBehind.flush(proceedGameIds);
+            JdbcTemplate.runInTransaction(() -> {
+                CHESS_RESULT_DAO.addResultsOfProceedGames(roomId);
+                CHESS_GAME_DAO.updateProceedNBy(roomId);
+            });
+            return null;
+        });
     }
 
     private Map<Square, Boolean> makeCastlingElements(Map<Square, Piece> chessBoard,
@@ -132,15 +371,41 @@ public class ChessGameService {
             .anyMatch(castlingSetting -> castlingSetting.isCastlingBefore(square, piece));
     }
 
+    public Optional<Integer> findCachedVersion(Integer gameId) {
+        return chessGameCache.find(gameId)
+            .map(CachedGame::getPly);
+    }
+
+    public Optional<BoardDeltaDto> findCachedDelta(Integer gameId, Integer since,
+        ChessGameDto chessGameDto) {
+        return chessGameCache.find(gameId)
+            .map(cachedGame -> cachedGame.deltaSince(since, chessGameDto));
+    }
+
     public ChessGameDto loadChessGame(Integer gameId) {
-        GameInfoDto gameInfo = getGameInfo(gameId);
-        return new ChessGameDto(combineChessGame(gameId, gameInfo.getTurn()),
-            gameInfo.getUserNames());
+        return loadInLane(gameId).chessGameDto;
+    }
+
+    public BoardDeltaDto loadChessGame(Integer gameId, Integer since) {
+        return loadInLane(gameId).deltaSince(since);
+    }
+
+    public <T> T withChessGame(Integer gameId, Function<ChessGameDto, T> action) {
+        return gameLaneExecutor.execute(gameId,
+            () -> action.apply(loadTask(gameId).get().chessGameDto));
     }
 
-    private ChessGame combineChessGame(Integer gameId) {
-        Team gameTurn = CHESS_GAME_DAO.findCurrentTurn(gameId).orElseThrow(IllegalAccessError::new);
-        return combineChessGame(gameId, gameTurn);
+    private GameResponse loadInLane(Integer gameId) {
+        return gameLaneExecutor.execute(gameId, loadTask(gameId));
+    }
+
+    private Supplier<GameResponse> loadTask(Integer gameId) {
+        return () -> {
+            CachedGame cachedGame = getActiveGame(gameId);
+            return new GameResponse(
+                new ChessGameDto(cachedGame.copyChessGame(), cachedGame.getUserNames()),
+                cachedGame);
+        };
     }
 
     private ChessGame combineChessGame(Integer gameId, Team turn) {
@@ -152,47 +417,80 @@ public class ChessGameService {
     }
 
     public boolean isGameProceed(Integer gameId) {
-        return CHESS_GAME_DAO.findInfo(gameId).isPresent();
+        return chessGameCache.find(gameId).isPresent()
+            || CHESS_GAME_DAO.findInfo(gameId).isPresent();
     }
 
     public GameInfoDto closeGame(Integer gameId) {
+        return gameLaneExecutor.execute(gameId, () -> closeGameInLane(gameId));
+    }
+
+    private GameInfoDto closeGameInLane(Integer gameId) {
+        chessGameCache.invalidate(gameId);
+        premoveQueue.clear(gameId);
+        chessGameWriteBehind.flush(gameId);
         GameInfoDto gameInfo = getGameInfo(gameId);
-        CHESS_GAME_DAO.updateProceedN(gameId);
         Map<Team, String> userNames = gameInfo.getUserNames();
-        TeamScore teamScore = gameInfo.getTeamScores();
-        for (Team team : Team.values()) {
-            setGameResult(teamScore, userNames, team);
-        }
+        JdbcTemplate.runInTransaction(() -> {
+            CHESS_GAME_DAO.updateProceedN(gameId);
+            saveGameResult(gameInfo.getTeamScores(), userNames);
+        });
+        notifyUpdated(gameId, gameInfo.getVersion(),
+            new ChessGameDto(gameInfo.getTeamScores(), userNames));
         return gameInfo;
     }
 
-    private void setGameResult(TeamScore teamScore, Map<Team, String> userNames, Team team) {
-        GameResultDto gameResultBefore = CHESS_RESULT_DAO.findWinOrDraw(userNames.get(team))
-            .orElseThrow(IllegalAccessError::new);
-        GameResultDto gameResult = teamScore.getGameResult(team);
-        GameResultDto gameResultAfter = new GameResultDto(
-            gameResultBefore.getWinCount() + gameResult.getWinCount(),
-            gameResultBefore.getDrawCount() + gameResult.getDrawCount(),
-            gameResultBefore.getLoseCount() + gameResult.getLoseCount());
-        CHESS_RESULT_DAO.update(userNames.get(team), gameResultAfter);
+    private void saveGameResult(TeamScore teamScore, Map<Team, String> userNames) {
+        Map<String, GameResultDto> gameResults = new HashMap<>();
+        for (Team team : Team.values()) {
+            gameResults.merge(userNames.get(team), teamScore.getGameResult(team),
+                GameResultDto::add);
+        }
+        CHESS_RESULT_DAO.addResults(gameResults);
     }
 
     public ChessGameDto promote(PromotionTypeDto promotionTypeDTO) {
+        return promoteInLane(promotionTypeDTO).chessGameDto;
+    }
+
+    public BoardDeltaDto promote(PromotionTypeDto promotionTypeDTO, Integer since) {
+        return promoteInLane(promotionTypeDTO).deltaSince(since);
+    }
+
+    private GameResponse promoteInLane(PromotionTypeDto promotionTypeDTO) {
         Integer gameId = promotionTypeDTO.getGameId();
-        GameInfoDto gameInfo = getGameInfo(gameId);
-        ChessGame chessGame = combineChessGame(gameId, gameInfo.getTurn());
-        MoveState moveState = chessGame.promote(Type.of(promotionTypeDTO.getPromotionType()));
+        return gameLaneExecutor.execute(gameId, () -> {
+            GameResponse response
+                = retryOnConflict(gameId, () -> promoteOnce(promotionTypeDTO));
+            applyPremoves(gameId, response.cachedGame);
+            return response;
+        });
+    }
 
-        updateChessBoard(gameId, chessGame, moveState);
-        updateGameInfo(gameId, chessGame, true);
+    private GameResponse promoteOnce(PromotionTypeDto promotionTypeDTO) {
+        Integer gameId = promotionTypeDTO.getGameId();
+        CachedGame cachedGame = getActiveGame(gameId);
+        ChessGame chessGame = cachedGame.copyChessGame();
+        Type promotionType = Type.of(promotionTypeDTO.getPromotionType());
+        MoveState moveState = chessGame.promote(promotionType);
 
-        return new ChessGameDto(chessGame, moveState, chessGame.deriveTeamScore(),
-            gameInfo.getUserNames());
+        ChessGameDto chessGameDto = new ChessGameDto(chessGame, moveState,
+            chessGame.deriveTeamScore(), cachedGame.getUserNames());
+        if (!moveState.isSucceed()) {
+            return new GameResponse(chessGameDto, cachedGame);
+        }
+        CachedGame savedGame = saveGame(gameId, cachedGame, chessGame, chessGameDto,
+            PackedMove.ofPromotion(promotionType), true);
+        notifyUpdated(gameId, savedGame.getPly(), chessGameDto);
+        return new GameResponse(chessGameDto, savedGame);
     }
 
     public PathDto findPath(SourceDto sourceDto) {
-        ChessGame chessGame = combineChessGame(sourceDto.getGameId());
-        return new PathDto(chessGame.findMovableAreas(Square.of(sourceDto.getSource())));
+        Integer gameId = sourceDto.getGameId();
+        return gameLaneExecutor.execute(gameId, () -> {
+            ChessGame chessGame = getActiveGame(gameId).copyChessGame();
+            return new PathDto(chessGame.findMovableAreas(Square.of(sourceDto.getSource())));
+        });
     }
 
     public Integer createBy(Integer gameId, Map<Team, String> userNames) {
@@ -212,4 +510,19 @@ public class ChessGameService {
         GameInfoDto gameInfoDto = closeGame(gameId);
         return new ChessGameDto(gameInfoDto.getTeamScores(), gameInfoDto.getUserNames());
     }
+
+    private static class GameResponse {
+
+        private final ChessGameDto chessGameDto;
+        private final CachedGame cachedGame;
+
+        private GameResponse(ChessGameDto chessGameDto, CachedGame cachedGame) {
+            this.chessGameDto = chessGameDto;
+            this.cachedGame = cachedGame;
+        }
+
+        private BoardDeltaDto deltaSince(Integer since) {
+            return cachedGame.deltaSince(since, chessGameDto);
+        }
+    }
 }
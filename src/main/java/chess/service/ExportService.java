@@ -0,0 +1,63 @@
+package chess.service;
+
+import chess.model.domain.piece.Type;
+import chess.model.domain.state.MoveInfo;
+import chess.model.domain.state.PackedMove;
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.ChessMoveDao;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ExportService {
+
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+    private static final String HEADER = "GAME_ID,PLY,SOURCE,TARGET,PROMOTION\n";
+    private static final int FIRST_CURSOR = 0;
+
+    private final int fetchSize;
+
+    public ExportService(@Value("${chess.export.fetch-size:500}") int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetch size는 0보다 커야 합니다.");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportMoves(Integer afterGameId, Writer writer) throws IOException {
+        writer.write(HEADER);
+        try {
+            CHESS_MOVE_DAO.findAllAfter(Optional.ofNullable(afterGameId).orElse(FIRST_CURSOR),
+                fetchSize, moveRecord -> writeLine(writer, moveRecord));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeLine(Writer writer, MoveRecordDto moveRecord) {
+        PackedMove packedMove = PackedMove.of(moveRecord.getMoveCode());
+        StringBuilder line = new StringBuilder()
+            .append(moveRecord.getGameId()).append(',')
+            .append(moveRecord.getPly()).append(',');
+        if (packedMove.hasMove()) {
+            MoveInfo moveInfo = packedMove.getMoveInfo();
+            line.append(moveInfo.getSource().getName()).append(',')
+                .append(moveInfo.getTarget().getName());
+        } else {
+            line.append(',');
+        }
+        line.append(',')
+            .append(packedMove.getPromotionType().map(Type::getLetter).orElse(""))
+            .append('\n');
+        try {
+            writer.write(line.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package chess.service;
+
+import chess.model.dto.ChessGameDto;
+
+public interface GameUpdateListener {
+
+    void onGameUpdated(Integer gameId, int version, ChessGameDto chessGameDto);
+}
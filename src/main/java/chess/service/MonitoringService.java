@@ -0,0 +1,33 @@
+package chess.service;
+
+import chess.model.dto.CacheStatisticsDto;
+import chess.model.dto.StatementStatisticsDto;
+import chess.model.repository.ServerStatusDao;
+import chess.model.repository.connector.ReadRouting;
+import chess.model.repository.connector.ReadRouting.Scope;
+import chess.model.repository.exception.DataAccessException;
+import chess.model.repository.template.StatementCacheMonitor;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MonitoringService {
+
+    private static final ServerStatusDao SERVER_STATUS_DAO = ServerStatusDao.getInstance();
+
+    public StatementStatisticsDto getStatementStatistics() {
+        CacheStatisticsDto estimate = StatementCacheMonitor.getInstance().getStatistics();
+        Map<String, Long> counters;
+        try (Scope scope = ReadRouting.openScope(true)) {
+            counters = SERVER_STATUS_DAO.findStatementCounters();
+        } catch (DataAccessException e) {
+            return StatementStatisticsDto.ofEstimate(estimate);
+        }
+        if (!counters.containsKey(ServerStatusDao.STMT_PREPARE)
+            || !counters.containsKey(ServerStatusDao.STMT_EXECUTE)) {
+            return StatementStatisticsDto.ofEstimate(estimate);
+        }
+        return StatementStatisticsDto.ofServer(counters.get(ServerStatusDao.STMT_PREPARE),
+            counters.get(ServerStatusDao.STMT_EXECUTE), estimate);
+    }
+}
@@ -4,15 +4,26 @@ import chess.model.dto.GameResultDto;
 import chess.model.dto.UserNameDto;
 import chess.model.dto.UserNamesDto;
 import chess.model.repository.ChessResultDao;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
+import util.PageSizeLimiter;
 
 @Service
 public class ResultService {
 
     private static final ChessResultDao CHESS_RESULT_DAO = ChessResultDao.getInstance();
+    private static final String FIRST_CURSOR = "";
 
-    public UserNamesDto getUsers() {
-        return new UserNamesDto(CHESS_RESULT_DAO.findUserNames());
+    public UserNamesDto getUsers(String cursor, Integer size) {
+        int pageSize = PageSizeLimiter.limit(size);
+        List<String> userNames = CHESS_RESULT_DAO
+            .findUserNames(Optional.ofNullable(cursor).orElse(FIRST_CURSOR), pageSize + 1);
+        if (userNames.size() <= pageSize) {
+            return new UserNamesDto(userNames, null);
+        }
+        List<String> page = userNames.subList(0, pageSize);
+        return new UserNamesDto(page, page.get(pageSize - 1));
     }
 
     public GameResultDto getResult(UserNameDto userNameDto) {
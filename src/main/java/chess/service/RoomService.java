@@ -4,22 +4,135 @@ import chess.model.dto.CreateRoomDto;
 import chess.model.dto.DeleteRoomDto;
 import chess.model.dto.RoomsDto;
 import chess.model.repository.RoomDao;
+import chess.service.cache.RoomDirectory;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import util.PageSizeLimiter;
 
 @Service
 public class RoomService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoomService.class);
     private static final RoomDao ROOM_DAO = RoomDao.getInstance();
+    private static final Integer FIRST_CURSOR = 0;
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final RoomDirectory roomDirectory;
+    private final List<RoomUpdateListener> roomUpdateListeners;
+    private final ScheduledExecutorService refresher;
+
+    public RoomService(RoomDirectory roomDirectory, List<RoomUpdateListener> roomUpdateListeners,
+        @Value("${chess.room.directory.refresh-seconds:5}") long refreshSeconds) {
+        if (refreshSeconds < 0) {
+            throw new IllegalArgumentException("방 목록 갱신 주기는 0 이상이어야 합니다.");
+        }
+        this.roomDirectory = roomDirectory;
+        this.roomUpdateListeners = Collections.unmodifiableList(roomUpdateListeners);
+        if (refreshSeconds == 0) {
+            this.refresher = null;
+            return;
+        }
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chess-room-directory");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshSeconds,
+            refreshSeconds, TimeUnit.SECONDS);
+    }
 
     public RoomsDto getUsedRooms() {
-        return new RoomsDto(ROOM_DAO.findUsed());
+        return getUsedRooms(null, null);
+    }
+
+    public RoomsDto getUsedRooms(Integer cursor, Integer size) {
+        int pageSize = PageSizeLimiter.limit(size);
+        Map<Integer, String> rooms = getRoomDirectory()
+            .findUsed(Optional.ofNullable(cursor).orElse(FIRST_CURSOR), pageSize + 1);
+        if (rooms.size() <= pageSize) {
+            return new RoomsDto(rooms, null);
+        }
+        Map<Integer, String> page = new LinkedHashMap<>();
+        Iterator<Entry<Integer, String>> iterator = rooms.entrySet().iterator();
+        Integer nextCursor = null;
+        while (page.size() < pageSize) {
+            Entry<Integer, String> room = iterator.next();
+            page.put(room.getKey(), room.getValue());
+            nextCursor = room.getKey();
+        }
+        return new RoomsDto(page, nextCursor);
+    }
+
+    private RoomDirectory getRoomDirectory() {
+        roomDirectory.loadIfAbsent(this::findAllUsedRooms);
+        return roomDirectory;
+    }
+
+    private void refreshQuietly() {
+        try {
+            roomDirectory.refresh(this::findAllUsedRooms, this::notifyAdded, this::notifyRemoved);
+        } catch (RuntimeException e) {
+            LOGGER.warn("방 목록을 갱신하지 못했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private Map<Integer, String> findAllUsedRooms() {
+        Map<Integer, String> rooms = new LinkedHashMap<>();
+        Map<Integer, String> page;
+        Integer cursor = FIRST_CURSOR;
+        do {
+            page = ROOM_DAO.findUsed(cursor, LOAD_PAGE_SIZE);
+            rooms.putAll(page);
+            for (Integer roomId : page.keySet()) {
+                cursor = roomId;
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        return rooms;
     }
 
     public void addRoom(CreateRoomDto createRoomDto) {
-        ROOM_DAO.create(createRoomDto.getRoomName(), createRoomDto.getRoomPassword());
+        String roomName = createRoomDto.getRoomName();
+        Integer roomId = ROOM_DAO.create(roomName, createRoomDto.getRoomPassword());
+        getRoomDirectory().add(roomId, roomName);
+        notifyAdded(roomId, roomName);
     }
 
     public void deleteRoom(DeleteRoomDto deleteRoomDto) {
-        ROOM_DAO.updateUsedN(deleteRoomDto.getRoomId());
+        Integer roomId = deleteRoomDto.getRoomId();
+        ROOM_DAO.updateUsedN(roomId);
+        getRoomDirectory().remove(roomId);
+        notifyRemoved(roomId);
+    }
+
+    private void notifyAdded(Integer roomId, String roomName) {
+        for (RoomUpdateListener roomUpdateListener : roomUpdateListeners) {
+            roomUpdateListener.onRoomAdded(roomId, roomName);
+        }
+    }
+
+    private void notifyRemoved(Integer roomId) {
+        for (RoomUpdateListener roomUpdateListener : roomUpdateListeners) {
+            roomUpdateListener.onRoomRemoved(roomId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,8 @@
+package chess.service;
+
+public interface RoomUpdateListener {
+
+    void onRoomAdded(Integer roomId, String roomName);
+
+    void onRoomRemoved(Integer roomId);
+}
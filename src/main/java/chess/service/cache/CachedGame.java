@@ -0,0 +1,75 @@
+package chess.service.cache;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
+import chess.model.dto.BoardDeltaDto;
+import chess.model.dto.ChessGameDto;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import util.NullChecker;
+
+public class CachedGame {
+
+    private static final int MAX_RECENT_BOARDS = 16;
+
+    private final ChessGame chessGame;
+    private final Map<Team, String> userNames;
+    private final int ply;
+    private final Map<Integer, ChessGameDto> recentBoards;
+
+    public CachedGame(ChessGame chessGame, Map<Team, String> userNames, int ply) {
+        this(chessGame, userNames, ply, Collections.emptyMap(),
+            new ChessGameDto(chessGame, userNames));
+    }
+
+    private CachedGame(ChessGame chessGame, Map<Team, String> userNames, int ply,
+        Map<Integer, ChessGameDto> previousBoards, ChessGameDto board) {
+        NullChecker.validateNotNull(chessGame, userNames, board);
+        this.chessGame = ChessGame.of(chessGame);
+        this.userNames = Collections.unmodifiableMap(new HashMap<>(userNames));
+        this.ply = ply;
+        this.recentBoards = Collections.unmodifiableMap(recent(previousBoards, ply, board));
+    }
+
+    private static Map<Integer, ChessGameDto> recent(Map<Integer, ChessGameDto> previousBoards,
+        int ply, ChessGameDto board) {
+        Map<Integer, ChessGameDto> recentBoards = new LinkedHashMap<>(previousBoards);
+        recentBoards.put(ply, board);
+        Iterator<Integer> iterator = recentBoards.keySet().iterator();
+        while (recentBoards.size() > MAX_RECENT_BOARDS) {
+            iterator.next();
+            iterator.remove();
+        }
+        return recentBoards;
+    }
+
+    public CachedGame next(ChessGame chessGame, ChessGameDto board) {
+        return new CachedGame(chessGame, userNames, ply + 1, recentBoards, board);
+    }
+
+    public BoardDeltaDto deltaSince(Integer since, ChessGameDto chessGameDto) {
+        if (since == null || !recentBoards.containsKey(since)) {
+            return BoardDeltaDto.full(ply, chessGameDto);
+        }
+        return BoardDeltaDto.of(ply, since, recentBoards.get(since), chessGameDto);
+    }
+
+    public ChessGame copyChessGame() {
+        return ChessGame.of(chessGame);
+    }
+
+    public Team getTurn() {
+        return chessGame.getTurn();
+    }
+
+    public Map<Team, String> getUserNames() {
+        return userNames;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+}
@@ -0,0 +1,121 @@
+package chess.service.cache;
+
+import chess.model.dto.CacheStatisticsDto;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import util.NullChecker;
+
+@Component
+public class ChessGameCache {
+
+    private final int maximumSize;
+    private final long expireAfterAccessMillis;
+    private final LongSupplier currentTimeMillis;
+    private final LinkedHashMap<Integer, Entry> games = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    @Autowired
+    public ChessGameCache(@Value("${chess.cache.maximum-size:1000}") int maximumSize,
+        @Value("${chess.cache.expire-after-access-seconds:600}") long expireAfterAccessSeconds) {
+        this(maximumSize, TimeUnit.SECONDS.toMillis(expireAfterAccessSeconds),
+            System::currentTimeMillis);
+    }
+
+    ChessGameCache(int maximumSize, long expireAfterAccessMillis,
+        LongSupplier currentTimeMillis) {
+        if (maximumSize <= 0 || expireAfterAccessMillis <= 0) {
+            throw new IllegalArgumentException("캐시 크기와 만료 시간은 0보다 커야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterAccessMillis = expireAfterAccessMillis;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public synchronized Optional<CachedGame> find(Integer gameId) {
+        NullChecker.validateNotNull(gameId);
+        long now = currentTimeMillis.getAsLong();
+        Entry entry = games.get(gameId);
+        if (entry == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        if (entry.isExpired(now, expireAfterAccessMillis)) {
+            games.remove(gameId);
+            evictionCount++;
+            missCount++;
+            return Optional.empty();
+        }
+        entry.lastAccessMillis = now;
+        hitCount++;
+        return Optional.of(entry.cachedGame);
+    }
+
+    public synchronized void put(Integer gameId, CachedGame cachedGame) {
+        NullChecker.validateNotNull(gameId, cachedGame);
+        long now = currentTimeMillis.getAsLong();
+        games.put(gameId, new Entry(cachedGame, now));
+        evictExpired(now);
+        evictOverflow();
+    }
+
+    public synchronized boolean replace(Integer gameId, CachedGame expected,
+        CachedGame cachedGame) {
+        NullChecker.validateNotNull(gameId, expected, cachedGame);
+        Entry entry = games.get(gameId);
+        if (entry == null || entry.cachedGame != expected) {
+            return false;
+        }
+        put(gameId, cachedGame);
+        return true;
+    }
+
+    public synchronized void invalidate(Integer gameId) {
+        games.remove(gameId);
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = games.values().iterator();
+        while (iterator.hasNext() && iterator.next().isExpired(now, expireAfterAccessMillis)) {
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Integer, Entry>> iterator = games.entrySet().iterator();
+        while (games.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized CacheStatisticsDto getStatistics() {
+        return new CacheStatisticsDto(hitCount, missCount, evictionCount, games.size());
+    }
+
+    private static class Entry {
+
+        private final CachedGame cachedGame;
+        private long lastAccessMillis;
+
+        private Entry(CachedGame cachedGame, long lastAccessMillis) {
+            this.cachedGame = cachedGame;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+
+        private boolean isExpired(long now, long expireAfterAccessMillis) {
+            return now - lastAccessMillis >= expireAfterAccessMillis;
+        }
+    }
+}
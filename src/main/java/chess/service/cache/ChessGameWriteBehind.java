@@ -0,0 +1,175 @@
+package chess.service.cache;
+
+import chess.model.dto.GameUpdateDto;
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.exception.GameConflictException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import util.NullChecker;
+
+@Component
+public class ChessGameWriteBehind {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChessGameWriteBehind.class);
+    private final ChessGameWriter chessGameWriter;
+    private final ChessGameCache chessGameCache;
+    private final boolean enabled;
+    private final Map<Integer, GameUpdateDto> pendingUpdates = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+    private volatile Consumer<Set<Integer>> conflictHandler;
+
+    public ChessGameWriteBehind(ChessGameWriter chessGameWriter, ChessGameCache chessGameCache,
+        @Value("${chess.write-behind.enabled:false}") boolean enabled,
+        @Value("${chess.write-behind.flush-interval-millis:300}") long flushIntervalMillis) {
+        this.chessGameWriter = chessGameWriter;
+        this.chessGameCache = chessGameCache;
+        this.enabled = enabled;
+        if (!enabled) {
+            this.flusher = null;
+            return;
+        }
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("flush 주기는 0보다 커야 합니다.");
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chess-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis,
+            flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void setConflictHandler(Consumer<Set<Integer>> conflictHandler) {
+        NullChecker.validateNotNull(conflictHandler);
+        this.conflictHandler = conflictHandler;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void enqueue(GameUpdateDto gameUpdate) {
+        NullChecker.validateNotNull(gameUpdate);
+        if (!enabled) {
+            throw new IllegalStateException("write-behind 모드가 아닙니다.");
+        }
+        pendingUpdates.merge(gameUpdate.getGameId(), gameUpdate, this::mergeInPlyOrder);
+    }
+
+    private GameUpdateDto mergeInPlyOrder(GameUpdateDto pending, GameUpdateDto gameUpdate) {
+        if (pending.getPly() < gameUpdate.getPly()) {
+            return pending.append(gameUpdate);
+        }
+        return gameUpdate.append(pending);
+    }
+
+    public void flush(Integer gameId) {
+        synchronized (flushLock) {
+            GameUpdateDto gameUpdate = pendingUpdates.remove(gameId);
+            if (gameUpdate != null) {
+                write(Collections.singletonList(gameUpdate));
+            }
+        }
+    }
+
+    public void flush(Collection<Integer> gameIds) {
+        NullChecker.validateNotNull(gameIds);
+        synchronized (flushLock) {
+            write(removePending(gameIds));
+        }
+    }
+
+    public void flushAll() {
+        synchronized (flushLock) {
+            write(removePending(new HashSet<>(pendingUpdates.keySet())));
+        }
+    }
+
+    private List<GameUpdateDto> removePending(Collection<Integer> gameIds) {
+        List<GameUpdateDto> gameUpdates = new ArrayList<>();
+        for (Integer gameId : gameIds) {
+            GameUpdateDto gameUpdate = pendingUpdates.remove(gameId);
+            if (gameUpdate != null) {
+                gameUpdates.add(gameUpdate);
+            }
+        }
+        return gameUpdates;
+    }
+
+    public int countPending() {
+        return pendingUpdates.size();
+    }
+
+    private void write(List<GameUpdateDto> gameUpdates) {
+        if (gameUpdates.isEmpty()) {
+            return;
+        }
+        try {
+            chessGameWriter.write(gameUpdates);
+        } catch (GameConflictException e) {
+            e.getGameIds().forEach(chessGameCache::invalidate);
+            logDropped(gameUpdates, e.getGameIds());
+            if (conflictHandler != null) {
+                conflictHandler.accept(e.getGameIds());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            for (GameUpdateDto gameUpdate : gameUpdates) {
+                pendingUpdates.merge(gameUpdate.getGameId(), gameUpdate,
+                    (pending, failed) -> failed.append(pending));
+            }
+            throw e;
+        }
+    }
+
+    private void logDropped(List<GameUpdateDto> gameUpdates, Set<Integer> conflictGameIds) {
+        for (GameUpdateDto gameUpdate : gameUpdates) {
+            if (conflictGameIds.contains(gameUpdate.getGameId())) {
+                LOGGER.error("충돌로 저장하지 못한 수를 버립니다. gameId : {}, ply : {}",
+                    gameUpdate.getGameId(), gameUpdate.getMoveRecords().stream()
+                        .map(MoveRecordDto::getPly)
+                        .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flushAll();
+        } catch (RuntimeException e) {
+            LOGGER.error("write-behind flush에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+    }
+}
@@ -0,0 +1,73 @@
+package chess.service.cache;
+
+import chess.model.dto.GameUpdateDto;
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.ChessBoardDao;
+import chess.model.repository.ChessGameDao;
+import chess.model.repository.ChessMoveDao;
+import chess.model.repository.exception.GameConflictException;
+import chess.model.repository.template.JdbcTemplate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChessGameWriter {
+
+    private static final ChessGameDao CHESS_GAME_DAO = ChessGameDao.getInstance();
+    private static final ChessBoardDao CHESS_BOARD_DAO = ChessBoardDao.getInstance();
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+
+    private final int snapshotInterval;
+
+    public ChessGameWriter(@Value("${chess.journal.snapshot-interval:20}") int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("스냅샷 주기는 0보다 커야 합니다.");
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public boolean isSnapshotPly(int ply) {
+        return ply % snapshotInterval == 0;
+    }
+
+    public void write(List<GameUpdateDto> gameUpdates) {
+        if (gameUpdates.isEmpty()) {
+            return;
+        }
+        Set<Integer> conflictGameIds = JdbcTemplate.executeInTransaction(() -> {
+            Set<Integer> conflicts = CHESS_GAME_DAO.update(gameUpdates);
+            List<GameUpdateDto> appliedUpdates = gameUpdates.stream()
+                .filter(gameUpdate -> !conflicts.contains(gameUpdate.getGameId()))
+                .collect(Collectors.toList());
+            List<MoveRecordDto> moveRecords = appliedUpdates.stream()
+                .flatMap(gameUpdate -> gameUpdate.getMoveRecords().stream())
+                .collect(Collectors.toList());
+            if (!moveRecords.isEmpty()) {
+                CHESS_MOVE_DAO.create(moveRecords);
+            }
+            writeSnapshots(appliedUpdates.stream()
+                .filter(GameUpdateDto::isSnapshot)
+                .collect(Collectors.toList()));
+            return conflicts;
+        });
+        if (!conflictGameIds.isEmpty()) {
+            throw new GameConflictException(conflictGameIds);
+        }
+    }
+
+    private void writeSnapshots(List<GameUpdateDto> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        JdbcTemplate.runInTransaction(() -> {
+            CHESS_BOARD_DAO.delete(snapshots.stream()
+                .map(GameUpdateDto::getGameId)
+                .collect(Collectors.toSet()));
+            CHESS_BOARD_DAO.create(snapshots);
+            CHESS_GAME_DAO.updateSnapshot(snapshots);
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package chess.service.cache;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import util.NullChecker;
+
+@Component
+public class RoomDirectory {
+
+    private final ConcurrentSkipListMap<Integer, String> rooms = new ConcurrentSkipListMap<>();
+    private volatile boolean loaded;
+
+    public void loadIfAbsent(Supplier<Map<Integer, String>> loader) {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                rooms.putAll(loader.get());
+                loaded = true;
+            }
+        }
+    }
+
+    public synchronized void refresh(Supplier<Map<Integer, String>> loader,
+        BiConsumer<Integer, String> onAdded, Consumer<Integer> onRemoved) {
+        NullChecker.validateNotNull(loader, onAdded, onRemoved);
+        if (!loaded) {
+            return;
+        }
+        Map<Integer, String> before = new LinkedHashMap<>(rooms);
+        Map<Integer, String> latest = loader.get();
+        for (Entry<Integer, String> room : latest.entrySet()) {
+            if (!before.containsKey(room.getKey())
+                && rooms.putIfAbsent(room.getKey(), room.getValue()) == null) {
+                onAdded.accept(room.getKey(), room.getValue());
+            }
+        }
+        for (Integer roomId : before.keySet()) {
+            if (!latest.containsKey(roomId) && rooms.remove(roomId) != null) {
+                onRemoved.accept(roomId);
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void add(Integer roomId, String roomName) {
+        NullChecker.validateNotNull(roomId, roomName);
+        rooms.put(roomId, roomName);
+    }
+
+    public void remove(Integer roomId) {
+        NullChecker.validateNotNull(roomId);
+        rooms.remove(roomId);
+    }
+
+    public Map<Integer, String> findUsed(Integer afterRoomId, int limit) {
+        NullChecker.validateNotNull(afterRoomId);
+        Map<Integer, String> page = new LinkedHashMap<>();
+        Iterator<Entry<Integer, String>> iterator
+            = rooms.tailMap(afterRoomId, false).entrySet().iterator();
+        while (page.size() < limit && iterator.hasNext()) {
+            Entry<Integer, String> room = iterator.next();
+            page.put(room.getKey(), room.getValue());
+        }
+        return page;
+    }
+
+    public Map<Integer, String> findAll() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(rooms));
+    }
+
+    public synchronized void clear() {
+        rooms.clear();
+        loaded = false;
+    }
+}
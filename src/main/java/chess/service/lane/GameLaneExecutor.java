@@ -0,0 +1,254 @@
+package chess.service.lane;
+
+import chess.config.VirtualThreads;
+import chess.model.repository.connector.ReadRouting;
+import chess.model.repository.connector.ReadRouting.Scope;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import util.NullChecker;
+
+@Component
+public class GameLaneExecutor {
+
+    private static final ThreadLocal<Integer> CURRENT_LANE = new ThreadLocal<>();
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private final int laneCount;
+    private final int queueCapacity;
+    private final List<ExecutorService> lanes;
+    private final List<ReentrantLock> laneLocks;
+    private final ExecutorService virtualExecutor;
+
+    @Autowired
+    public GameLaneExecutor(@Value("${chess.lane.count:16}") int laneCount,
+        @Value("${chess.lane.queue-capacity:1000}") int queueCapacity,
+        @Value("${chess.threads.virtual:false}") boolean virtual,
+        @Value("${chess.lane.lock-stripes:1024}") int lockStripes) {
+        if (laneCount <= 0 || lockStripes <= 0) {
+            throw new IllegalArgumentException("lane 개수는 0보다 커야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("lane 대기열 크기는 0보다 커야 합니다.");
+        }
+        this.queueCapacity = queueCapacity;
+        if (virtual) {
+            List<ReentrantLock> laneLocks = new ArrayList<>();
+            for (int i = 0; i < lockStripes; i++) {
+                laneLocks.add(new ReentrantLock(true));
+            }
+            this.laneCount = lockStripes;
+            this.lanes = Collections.emptyList();
+            this.laneLocks = Collections.unmodifiableList(laneLocks);
+            this.virtualExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            return;
+        }
+        List<ExecutorService> lanes = new ArrayList<>();
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(newLane(i));
+        }
+        this.laneCount = laneCount;
+        this.lanes = Collections.unmodifiableList(lanes);
+        this.laneLocks = Collections.emptyList();
+        this.virtualExecutor = null;
+    }
+
+    public GameLaneExecutor(int laneCount) {
+        this(laneCount, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public GameLaneExecutor(int laneCount, int queueCapacity) {
+        this(laneCount, queueCapacity, false, 1);
+    }
+
+    private ExecutorService newLane(int laneIndex) {
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(() -> {
+                CURRENT_LANE.set(laneIndex);
+                runnable.run();
+            }, "chess-game-lane-" + laneIndex);
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    public <T> T execute(Integer gameId, Supplier<T> task) {
+        NullChecker.validateNotNull(gameId, task);
+        return executeOnLane(laneOf(gameId), task);
+    }
+
+    public <T> T executeAll(Collection<Integer> gameIds, Supplier<T> task) {
+        NullChecker.validateNotNull(gameIds, task);
+        List<Integer> laneIndexes = gameIds.stream()
+            .map(this::laneOf)
+            .distinct()
+            .sorted()
+            .collect(Collectors.toList());
+        Integer currentLane = CURRENT_LANE.get();
+        if (currentLane != null
+            && laneIndexes.stream().anyMatch(laneIndex -> !laneIndex.equals(currentLane))) {
+            throw new IllegalStateException("lane 안에서는 다른 lane의 게임을 묶어 실행할 수 없습니다.");
+        }
+        return executeOnLanes(laneIndexes, 0, task);
+    }
+
+    private <T> T executeOnLanes(List<Integer> laneIndexes, int position, Supplier<T> task) {
+        if (position == laneIndexes.size()) {
+            return task.get();
+        }
+        return executeOnLane(laneIndexes.get(position),
+            () -> executeOnLanes(laneIndexes, position + 1, task));
+    }
+
+    private <T> T executeOnLane(int laneIndex, Supplier<T> task) {
+        if (Integer.valueOf(laneIndex).equals(CURRENT_LANE.get())) {
+            return task.get();
+        }
+        if (virtualExecutor != null) {
+            return executeLocked(laneIndex, task);
+        }
+        boolean pinnedToPrimary = !ReadRouting.isReplicaReadable();
+        Future<LaneResult<T>> result = lanes.get(laneIndex)
+            .submit(() -> runInScope(task, pinnedToPrimary));
+        try {
+            LaneResult<T> laneResult = result.get();
+            if (laneResult.pinnedToPrimary) {
+                ReadRouting.pinToPrimary();
+            }
+            return laneResult.value;
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게임 요청 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private <T> T executeLocked(int laneIndex, Supplier<T> task) {
+        ReentrantLock laneLock = laneLocks.get(laneIndex);
+        if (!laneLock.isHeldByCurrentThread() && laneLock.getQueueLength() >= queueCapacity) {
+            throw new RejectedExecutionException("lane(" + laneIndex + ") 대기열이 가득 찼습니다.");
+        }
+        laneLock.lock();
+        Integer previousLane = CURRENT_LANE.get();
+        CURRENT_LANE.set(laneIndex);
+        try {
+            return task.get();
+        } finally {
+            if (previousLane == null) {
+                CURRENT_LANE.remove();
+            } else {
+                CURRENT_LANE.set(previousLane);
+            }
+            laneLock.unlock();
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Integer gameId, Supplier<T> task) {
+        NullChecker.validateNotNull(gameId, task);
+        int laneIndex = laneOf(gameId);
+        if (Integer.valueOf(laneIndex).equals(CURRENT_LANE.get())) {
+            return supplyInline(task);
+        }
+        boolean pinnedToPrimary = !ReadRouting.isReplicaReadable();
+        boolean locked = virtualExecutor != null;
+        Executor executor = locked ? virtualExecutor : lanes.get(laneIndex);
+        Supplier<T> laneTask = locked ? () -> executeLocked(laneIndex, task) : task;
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(runInScope(laneTask, pinnedToPrimary).value);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <T> CompletableFuture<T> supplyInline(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(task.get());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <T> LaneResult<T> runInScope(Supplier<T> task, boolean pinnedToPrimary) {
+        try (Scope scope = ReadRouting.openScope(pinnedToPrimary)) {
+            T value = task.get();
+            return new LaneResult<>(value, !ReadRouting.isReplicaReadable());
+        }
+    }
+
+    int laneOf(Integer gameId) {
+        return Math.floorMod(gameId.hashCode(), laneCount);
+    }
+
+    private RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<ExecutorService> executors = new ArrayList<>(lanes);
+        if (virtualExecutor != null) {
+            executors.add(virtualExecutor);
+        }
+        for (ExecutorService lane : executors) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : executors) {
+            try {
+                lane.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static class LaneResult<T> {
+
+        private final T value;
+        private final boolean pinnedToPrimary;
+
+        private LaneResult(T value, boolean pinnedToPrimary) {
+            this.value = value;
+            this.pinnedToPrimary = pinnedToPrimary;
+        }
+    }
+}
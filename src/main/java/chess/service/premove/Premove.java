@@ -0,0 +1,45 @@
+package chess.service.premove;
+
+import chess.model.domain.piece.Type;
+import chess.model.domain.state.MoveInfo;
+import chess.model.dto.MoveDto;
+import chess.model.dto.PremoveDto;
+import java.util.Optional;
+import util.NullChecker;
+
+public class Premove {
+
+    private final MoveInfo moveInfo;
+    private final Type promotionType;
+    private final MoveInfo expectedMove;
+
+    public Premove(MoveInfo moveInfo, Type promotionType, MoveInfo expectedMove) {
+        NullChecker.validateNotNull(moveInfo);
+        this.moveInfo = moveInfo;
+        this.promotionType = promotionType;
+        this.expectedMove = expectedMove;
+    }
+
+    public static Premove of(PremoveDto premoveDto) {
+        NullChecker.validateNotNull(premoveDto);
+        MoveInfo moveInfo = new MoveInfo(premoveDto.getSource(), premoveDto.getTarget());
+        Type promotionType = Optional.ofNullable(premoveDto.getPromotionType())
+            .map(Type::of)
+            .orElse(null);
+        MoveInfo expectedMove = null;
+        if (premoveDto.getExpectedSource() != null || premoveDto.getExpectedTarget() != null) {
+            expectedMove = new MoveInfo(premoveDto.getExpectedSource(),
+                premoveDto.getExpectedTarget());
+        }
+        return new Premove(moveInfo, promotionType, expectedMove);
+    }
+
+    public boolean isExpected(MoveInfo lastMove) {
+        return expectedMove == null || expectedMove.equals(lastMove);
+    }
+
+    public MoveDto toMoveDto(Integer gameId) {
+        return new MoveDto(moveInfo.getSource().getName(), moveInfo.getTarget().getName(),
+            gameId, Optional.ofNullable(promotionType).map(Type::getLetter).orElse(null));
+    }
+}
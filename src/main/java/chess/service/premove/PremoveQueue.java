@@ -0,0 +1,100 @@
+package chess.service.premove;
+
+import chess.model.domain.piece.Team;
+import chess.model.domain.state.MoveInfo;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import util.NullChecker;
+
+@Component
+public class PremoveQueue {
+
+    private final int maximumCount;
+    private final Map<Integer, GamePremoves> premovesByGame = new ConcurrentHashMap<>();
+
+    public PremoveQueue(@Value("${chess.premove.maximum-count:8}") int maximumCount) {
+        if (maximumCount <= 0) {
+            throw new IllegalArgumentException("예약 수 개수는 0보다 커야 합니다.");
+        }
+        this.maximumCount = maximumCount;
+    }
+
+    public void submit(Integer gameId, Team team, List<Premove> premoves) {
+        NullChecker.validateNotNull(gameId, team, premoves);
+        if (premoves.size() > maximumCount) {
+            throw new IllegalArgumentException(
+                "예약 수는 " + maximumCount + "개를 넘을 수 없습니다.");
+        }
+        GamePremoves gamePremoves
+            = premovesByGame.computeIfAbsent(gameId, key -> new GamePremoves());
+        synchronized (gamePremoves) {
+            gamePremoves.byTeam.put(team, new ArrayDeque<>(premoves));
+        }
+    }
+
+    public void recordMove(Integer gameId, MoveInfo moveInfo) {
+        NullChecker.validateNotNull(gameId, moveInfo);
+        GamePremoves gamePremoves
+            = premovesByGame.computeIfAbsent(gameId, key -> new GamePremoves());
+        synchronized (gamePremoves) {
+            gamePremoves.lastMove = moveInfo;
+        }
+    }
+
+    public Optional<Premove> poll(Integer gameId, Team team) {
+        GamePremoves gamePremoves = premovesByGame.get(gameId);
+        if (gamePremoves == null) {
+            return Optional.empty();
+        }
+        synchronized (gamePremoves) {
+            Deque<Premove> premoves = gamePremoves.byTeam.get(team);
+            if (premoves == null || premoves.isEmpty()) {
+                return Optional.empty();
+            }
+            Premove premove = premoves.poll();
+            if (!premove.isExpected(gamePremoves.lastMove)) {
+                premoves.clear();
+                return Optional.empty();
+            }
+            return Optional.of(premove);
+        }
+    }
+
+    public int count(Integer gameId, Team team) {
+        GamePremoves gamePremoves = premovesByGame.get(gameId);
+        if (gamePremoves == null) {
+            return 0;
+        }
+        synchronized (gamePremoves) {
+            Deque<Premove> premoves = gamePremoves.byTeam.get(team);
+            return premoves == null ? 0 : premoves.size();
+        }
+    }
+
+    public void clear(Integer gameId, Team team) {
+        GamePremoves gamePremoves = premovesByGame.get(gameId);
+        if (gamePremoves == null) {
+            return;
+        }
+        synchronized (gamePremoves) {
+            gamePremoves.byTeam.remove(team);
+        }
+    }
+
+    public void clear(Integer gameId) {
+        premovesByGame.remove(gameId);
+    }
+
+    private static class GamePremoves {
+
+        private final Map<Team, Deque<Premove>> byTeam = new EnumMap<>(Team.class);
+        private MoveInfo lastMove;
+    }
+}
@@ -0,0 +1,17 @@
+ALTER TABLE CHESS_GAME_TB
+  ADD COLUMN SNAPSHOT_PLY INT NOT NULL DEFAULT 0;
+
+ALTER TABLE CHESS_GAME_TB
+  ADD COLUMN SNAPSHOT_TURN_NM CHAR(5) NOT NULL DEFAULT 'WHITE';
+
+UPDATE CHESS_GAME_TB
+   SET SNAPSHOT_TURN_NM = TURN_NM;
+
+CREATE TABLE CHESS_MOVE_TB (
+       GAME_ID INT       NOT NULL
+     , PLY     INT       NOT NULL
+     , MOVE_CD SMALLINT  NOT NULL
+     , REG_DT  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+     , PRIMARY KEY (GAME_ID, PLY)
+     , FOREIGN KEY (GAME_ID) REFERENCES CHESS_GAME_TB(ID) ON UPDATE CASCADE
+);
@@ -0,0 +1,11 @@
+CREATE INDEX IDX_ROOM_USED
+    ON ROOM_TB (USED_YN, ID, NM);
+
+CREATE INDEX IDX_CHESS_GAME_ROOM_PROCEEDING
+    ON CHESS_GAME_TB (ROOM_ID, PROCEEDING_YN, ID);
+
+CREATE INDEX IDX_CHESS_BOARD_CASTLING
+    ON CHESS_BOARD_TB (GAME_ID, CASTLING_ELEMENT_YN, BOARDSQUARE_NM, PIECE_NM);
+
+CREATE INDEX IDX_CHESS_BOARD_EN_PASSANT
+    ON CHESS_BOARD_TB (GAME_ID, EN_PASSANT_NM, BOARDSQUARE_NM);
@@ -0,0 +1,7 @@
+ALTER TABLE CHESS_GAME_TB
+  ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
+
+UPDATE CHESS_GAME_TB
+   SET VERSION = (SELECT COALESCE(MAX(PLY), 0)
+                    FROM CHESS_MOVE_TB
+                   WHERE CHESS_MOVE_TB.GAME_ID = CHESS_GAME_TB.ID);
@@ -25,6 +25,8 @@ let firstClick = true;
 let source = null;
 let target = null;
 let gameId = document.getElementById('gameId').innerText;
+let version = null;
+let socket = connectSocket();
 
 roomButton.onclick = () => {
     location.href = '/'
@@ -89,7 +91,10 @@ cells.forEach(cell => {
         document.getElementById(source).removeAttribute('style');
         target = cell.id;
         firstClick = true;
-        fetch('/api/game/move', {
+        if (sendCommand({type: 'move', source, target})) {
+            return;
+        }
+        fetch('/api/game/move/delta' + sinceQuery(), {
             method: 'POST',
             headers: {
                 'Content-Type': 'application/json'
@@ -97,21 +102,24 @@ cells.forEach(cell => {
             body: JSON.stringify({
                 source, target, gameId
             })
-        }).then(res => res.json()).then(data => {
-            gameSetting(data);
+        }).then(readGame).then(data => {
+            applyDelta(data);
             if (data.state.includes("왕")) {
                 gameFinish();
             }
             document.getElementById('clickTiming').innerText
                 = '말이 이동할 경로(before)를 선택하세요.';
-        })
+        }).catch(reloadOnConflict)
     }
 });
 
 promotions.forEach(promotion => {
     promotion.onclick = () => {
         let promotionType = promotion.id;
-        fetch('/api/game/promotion', {
+        if (sendCommand({type: 'promotion', promotionType})) {
+            return;
+        }
+        fetch('/api/game/promotion/delta' + sinceQuery(), {
             method: 'POST',
             headers: {
                 'Content-Type': 'application/json'
@@ -119,23 +127,130 @@ promotions.forEach(promotion => {
             body: JSON.stringify({
                 promotionType, gameId
             })
-        }).then(res => res.json()).then(data => {
-            gameSetting(data);
-        })
+        }).then(readGame).then(data => {
+            applyDelta(data);
+        }).catch(reloadOnConflict)
     }
 });
 
-fetch('/api/game/board', {
-    method: 'POST',
-    headers: {
-        'Content-Type': 'application/json'
-    },
-    body: JSON.stringify({
-        gameId
-    })
-}).then(res => res.json()).then(data => {
-    gameSetting(data);
-});
+loadBoard();
+
+function loadBoard() {
+    version = null;
+    return fetch('/api/game/' + gameId + '/board')
+        .then(res => res.json()).then(data => {
+            applyDelta(data);
+        });
+}
+
+function sinceQuery() {
+    return version === null ? '' : '?since=' + version;
+}
+
+function applyDelta(data) {
+    version = data.version;
+    if (data.full) {
+        gameSetting(data);
+        return;
+    }
+    cells.forEach(cell => {
+        cell.classList.remove('path');
+    });
+    Object.keys(data.changes).forEach(index => {
+        cells[index].innerHTML = data.changes[index];
+    });
+    if (typeof data.turn !== 'undefined') {
+        turn.innerText = '현재 턴 : ' + data.turn;
+    }
+    state.innerText = typeof data.state === 'undefined' ? "" : data.state;
+    if (typeof data.blackScore !== 'undefined') {
+        blackScore.innerText = data.blackScore;
+    }
+    if (typeof data.whiteScore !== 'undefined') {
+        whiteScore.innerText = data.whiteScore;
+    }
+    if (typeof data.winner !== 'undefined') {
+        winner.innerText = data.winner;
+    }
+}
+
+function connectSocket() {
+    const protocol = location.protocol === 'https:' ? 'wss://' : 'ws://';
+    const webSocket = new WebSocket(protocol + location.host + '/ws/game/' + gameId);
+    webSocket.onmessage = event => {
+        const message = JSON.parse(event.data);
+        if (message.type === 'error') {
+            state.innerText = message.message;
+            return;
+        }
+        if (cells === null) {
+            return;
+        }
+        version = null;
+        gameSetting(message.game);
+        if (typeof message.game.turn === 'undefined'
+            || (message.game.state && message.game.state.includes("왕"))) {
+            gameFinish();
+        }
+    };
+    webSocket.onclose = () => {
+        loadBoard().then(awaitUpdates);
+    };
+    return webSocket;
+}
+
+function awaitUpdates() {
+    if (cells === null || socket.readyState === WebSocket.OPEN) {
+        return;
+    }
+    if (version === null) {
+        loadBoard().then(awaitUpdates);
+        return;
+    }
+    fetch('/api/game/' + gameId + '/await?since=' + version).then(res => {
+        if (res.status === 204) {
+            return null;
+        }
+        return res.json();
+    }).then(data => {
+        if (data !== null) {
+            applyDelta(data);
+            if ((data.full && typeof data.turn === 'undefined')
+                || (data.state && data.state.includes("왕"))) {
+                gameFinish();
+                return;
+            }
+        }
+        awaitUpdates();
+    }).catch(() => {
+        setTimeout(awaitUpdates, 1000);
+    });
+}
+
+function sendCommand(command) {
+    if (socket.readyState !== WebSocket.OPEN) {
+        return false;
+    }
+    socket.send(JSON.stringify(command));
+    document.getElementById('clickTiming').innerText
+        = '말이 이동할 경로(before)를 선택하세요.';
+    return true;
+}
+
+function readGame(res) {
+    if (res.status === 409) {
+        return res.text().then(message => {
+            throw new Error(message);
+        });
+    }
+    return res.json();
+}
+
+function reloadOnConflict(error) {
+    loadBoard().then(() => {
+        state.innerText = error.message;
+    });
+}
 
 function gameSetting(data) {
     cells.forEach(cell => {
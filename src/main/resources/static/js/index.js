@@ -3,10 +3,59 @@ const createRoomName = document.getElementById("room-name");
 const creatRoom = document.getElementById("create-room");
 const deleteRoom = document.getElementById("delete-room");
 const intoRoom = document.getElementById("into-room");
+const moreRooms = document.getElementById("more-rooms");
 
-fetch('/api/viewRooms').then(res => res.json()).then(data => {
-    roomSetting(data);
-});
+let nextCursor = null;
+let lobby = connectLobby();
+
+function connectLobby() {
+    if (typeof EventSource === 'undefined') {
+        loadRooms();
+        return null;
+    }
+    const eventSource = new EventSource('/api/lobby/stream');
+    eventSource.addEventListener('rooms', event => {
+        initialRooms();
+        roomSetting(JSON.parse(event.data));
+    });
+    eventSource.addEventListener('add', event => {
+        const room = JSON.parse(event.data);
+        appendRoom(room.roomId, room.roomName);
+    });
+    eventSource.addEventListener('remove', event => {
+        const option = findRoomOption(JSON.parse(event.data).roomId);
+        if (option !== null) {
+            rooms.removeChild(option);
+        }
+    });
+    eventSource.onerror = () => {
+        if (eventSource.readyState === EventSource.CLOSED) {
+            lobby = null;
+            loadRooms();
+        }
+    };
+    return eventSource;
+}
+
+function isLobbyOpen() {
+    return lobby !== null && lobby.readyState === EventSource.OPEN;
+}
+
+function loadRooms() {
+    fetch('/api/viewRooms').then(res => res.json()).then(data => {
+        initialRooms();
+        roomSetting(data);
+    });
+}
+
+moreRooms.onclick = () => {
+    if (nextCursor === null) {
+        return;
+    }
+    fetch('/api/viewRooms?cursor=' + nextCursor).then(res => res.json()).then(data => {
+        roomSetting(data);
+    });
+};
 
 intoRoom.onclick = () => {
     if (rooms.value === "") {
@@ -33,8 +82,10 @@ deleteRoom.onclick = () => {
             roomId
         })
     }).then(res => res.json()).then(data => {
-        initialRooms();
-        roomSetting(data);
+        if (!isLobbyOpen()) {
+            initialRooms();
+            roomSetting(data);
+        }
         createRoomName.value = "";
     })
 };
@@ -52,8 +103,10 @@ creatRoom.onclick = () => {
             roomName, roomPassword
         })
     }).then(res => res.json()).then(data => {
-        initialRooms();
-        roomSetting(data);
+        if (!isLobbyOpen()) {
+            initialRooms();
+            roomSetting(data);
+        }
         createRoomName.value = "";
     })
 };
@@ -61,12 +114,30 @@ creatRoom.onclick = () => {
 function roomSetting(data) {
     for (key in data.rooms) {
         if (data.rooms.hasOwnProperty(key)) {
-            let opt = document.createElement("option");
-            opt.value = key;
-            opt.textContent = "#" + key + " - " + data.rooms[key];
-            rooms.appendChild(opt);
+            appendRoom(key, data.rooms[key]);
+        }
+    }
+    nextCursor = (typeof data.nextCursor === 'undefined') ? null : data.nextCursor;
+    moreRooms.hidden = nextCursor === null;
+}
+
+function appendRoom(roomId, roomName) {
+    if (findRoomOption(roomId) !== null) {
+        return;
+    }
+    let opt = document.createElement("option");
+    opt.value = roomId;
+    opt.textContent = "#" + roomId + " - " + roomName;
+    rooms.appendChild(opt);
+}
+
+function findRoomOption(roomId) {
+    for (let option of rooms.options) {
+        if (option.value === String(roomId)) {
+            return option;
         }
     }
+    return null;
 }
 
 function initialRooms() {
@@ -3,6 +3,9 @@ const winDrawLose = document.getElementById('win-draw-lose');
 const submit = document.getElementById('submit');
 const userNames = document.getElementById('user-names');
 const roomButton = document.getElementById("room-button");
+const moreUsers = document.getElementById("more-users");
+
+let nextCursor = null;
 
 roomButton.onclick = () => {
     location.href = '/'
@@ -32,11 +35,27 @@ submit.onclick = () => {
     })
 };
 
+moreUsers.onclick = () => {
+    if (nextCursor === null) {
+        return;
+    }
+    fetch('/api/result/viewUsers?cursor=' + encodeURIComponent(nextCursor))
+        .then(res => res.json()).then(data => {
+        userSetting(data);
+    });
+};
+
 fetch('/api/result/viewUsers').then(res => res.json()).then(data => {
+    userSetting(data);
+});
+
+function userSetting(data) {
     for (let userName of data.userNames) {
         let opt = document.createElement("option");
         opt.value = userName;
         opt.textContent = userName;
         userNames.appendChild(opt);
     }
-});
\ No newline at end of file
+    nextCursor = (typeof data.nextCursor === 'undefined') ? null : data.nextCursor;
+    moreUsers.hidden = nextCursor === null;
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+    @Test
+    void newVirtualThreadPerTaskExecutorWithoutSupport() {
+        assumeTrue(!VirtualThreads.isSupported());
+
+        assertThatThrownBy(VirtualThreads::newVirtualThreadPerTaskExecutor)
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void newVirtualThreadPerTaskExecutor() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        Future<Boolean> daemon = executor.submit(() -> Thread.currentThread().isDaemon());
+
+        assertThat(daemon.get()).isTrue();
+        executor.shutdown();
+    }
+}
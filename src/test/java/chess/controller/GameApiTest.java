@@ -0,0 +1,128 @@
+package chess.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import chess.model.domain.piece.Team;
+import chess.model.dto.MoveDto;
+import chess.model.repository.RoomDao;
+import chess.model.repository.connector.TestDataSources;
+import chess.model.repository.exception.GameConflictException;
+import chess.service.ChessGameService;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:game_api;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "chess.room.directory.refresh-seconds=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2mem")
+class GameApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private ChessGameService chessGameService;
+
+    private Integer gameId;
+
+    @BeforeEach
+    void setUp() {
+        TestDataSources.usePrimary(dataSource);
+        Map<Team, String> userNames = new EnumMap<>(Team.class);
+        userNames.put(Team.BLACK, "black");
+        userNames.put(Team.WHITE, "white");
+        Integer roomId = RoomDao.getInstance().create("api", "");
+        gameId = chessGameService.create(roomId, userNames);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataSources.clear();
+    }
+
+    @Test
+    void move() throws Exception {
+        move("e2", "e4")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.turn").value("BLACK"));
+    }
+
+    @Test
+    void board() throws Exception {
+        mockMvc.perform(postJson("/api/game/board", "{\"gameId\":" + gameId + "}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.turn").value("WHITE"))
+            .andExpect(jsonPath("$.pieces", hasSize(64)));
+    }
+
+    @Test
+    void promotion() throws Exception {
+        String[][] moves = {
+            {"a2", "a4"}, {"b7", "b5"}, {"a4", "b5"}, {"a7", "a6"}, {"b5", "a6"},
+            {"c8", "b7"}, {"a6", "b7"}, {"b8", "c6"}, {"b7", "a8"}
+        };
+        for (String[] move : moves) {
+            move(move[0], move[1]).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(postJson("/api/game/promotion",
+            "{\"promotionType\":\"queen\",\"gameId\":" + gameId + "}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pieces[0]").value("♕"));
+    }
+
+    @DisplayName("다른 요청이 먼저 게임을 변경하면 409")
+    @Test
+    void conflict() throws Exception {
+        doThrow(new GameConflictException(Collections.singleton(gameId)))
+            .when(chessGameService).move(any(MoveDto.class));
+
+        move("e2", "e4").andExpect(status().isConflict());
+    }
+
+    @DisplayName("lane 대기열이 가득 차면 503")
+    @Test
+    void rejected() throws Exception {
+        doThrow(new RejectedExecutionException())
+            .when(chessGameService).move(any(MoveDto.class));
+
+        move("e2", "e4").andExpect(status().isServiceUnavailable());
+    }
+
+    private ResultActions move(String source, String target) throws Exception {
+        return mockMvc.perform(postJson("/api/game/move", "{\"source\":\"" + source
+            + "\",\"target\":\"" + target + "\",\"gameId\":" + gameId + "}"));
+    }
+
+    private MockHttpServletRequestBuilder postJson(String url, String body) {
+        return post(url)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body);
+    }
+}
@@ -0,0 +1,176 @@
+package chess.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
+import chess.model.dto.ChessGameDto;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpectatorBroadcasterTest {
+
+    private SpectatorBroadcaster spectatorBroadcaster;
+    private ChessGameDto chessGameDto;
+
+    @BeforeEach
+    void setUp() {
+        spectatorBroadcaster = new SpectatorBroadcaster(2, 4, 60_000L);
+        Map<Team, String> names = new EnumMap<>(Team.class);
+        names.put(Team.BLACK, "black");
+        names.put(Team.WHITE, "white");
+        chessGameDto = new ChessGameDto(new ChessGame(), names);
+    }
+
+    @AfterEach
+    void tearDown() {
+        spectatorBroadcaster.shutdown();
+    }
+
+    @Test
+    void constructor() {
+        assertThatThrownBy(() -> new SpectatorBroadcaster(0, 4, 60_000L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void subscribeUpToLimit() {
+        assertThat(spectatorBroadcaster.subscribe(1, chessGameDto, new FakeConnection()))
+            .isTrue();
+        assertThat(spectatorBroadcaster.subscribe(1, chessGameDto, new FakeConnection()))
+            .isTrue();
+        assertThat(spectatorBroadcaster.subscribe(1, chessGameDto, new FakeConnection()))
+            .isFalse();
+        assertThat(spectatorBroadcaster.subscribe(2, chessGameDto, new FakeConnection()))
+            .isTrue();
+
+        assertThat(spectatorBroadcaster.countSubscribers(1)).isEqualTo(2);
+        assertThat(spectatorBroadcaster.countSubscribers(2)).isEqualTo(1);
+    }
+
+    @Test
+    void publishSharedFrame() {
+        FakeConnection connection = new FakeConnection();
+        spectatorBroadcaster.subscribe(1, chessGameDto, connection);
+
+        spectatorBroadcaster.onGameUpdated(1, 1, chessGameDto);
+
+        assertThat(connection.frames).hasSize(2);
+        assertThat(connection.flushCount).isPositive();
+    }
+
+    @DisplayName("쓰기가 막힌 구독자는 스레드를 잡지 않고 대기열이 넘치면 제거")
+    @Test
+    void dropStalledSubscriber() {
+        FakeConnection stalled = new FakeConnection();
+        stalled.ready = false;
+        FakeConnection healthy = new FakeConnection();
+        spectatorBroadcaster.subscribe(1, chessGameDto, stalled);
+        spectatorBroadcaster.subscribe(1, chessGameDto, healthy);
+
+        for (int i = 0; i < 5; i++) {
+            spectatorBroadcaster.onGameUpdated(1, 1, chessGameDto);
+        }
+
+        assertThat(stalled.closed).isTrue();
+        assertThat(healthy.frames).hasSize(6);
+        assertThat(spectatorBroadcaster.countSubscribers(1)).isEqualTo(1);
+        assertThat(spectatorBroadcaster.getDroppedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("쓰기가 다시 가능해지면 밀린 프레임을 순서대로 전송")
+    @Test
+    void resumeWhenWritable() {
+        FakeConnection connection = new FakeConnection();
+        connection.ready = false;
+        spectatorBroadcaster.subscribe(1, chessGameDto, connection);
+        spectatorBroadcaster.onGameUpdated(1, 1, chessGameDto);
+
+        connection.ready = true;
+        connection.onWritable.run();
+
+        assertThat(connection.frames).hasSize(2);
+    }
+
+    @DisplayName("구독과 해제가 동시에 일어나도 구독자를 잃지 않음")
+    @Test
+    void subscribeWhileRemoving() {
+        SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(10_000, 4, 60_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<FakeConnection> stayingConnections = new ArrayList<>();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            FakeConnection leaving = new FakeConnection();
+            FakeConnection staying = new FakeConnection();
+            stayingConnections.add(staying);
+            broadcaster.subscribe(3, chessGameDto, leaving);
+            results.add(CompletableFuture.runAsync(leaving.onClosed, executor));
+            results.add(CompletableFuture.runAsync(
+                () -> broadcaster.subscribe(3, chessGameDto, staying), executor));
+        }
+        results.forEach(CompletableFuture::join);
+        executor.shutdown();
+
+        broadcaster.onGameUpdated(3, 1, chessGameDto);
+
+        assertThat(broadcaster.countSubscribers(3)).isEqualTo(1000);
+        assertThat(stayingConnections).allMatch(connection -> connection.frames.size() == 2);
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void toFrame() {
+        String frame = new String(SpectatorBroadcaster.toFrame(chessGameDto),
+            StandardCharsets.UTF_8);
+
+        assertThat(frame).startsWith("event: update\ndata: {");
+        assertThat(frame).endsWith("}\n\n");
+    }
+
+    private static class FakeConnection implements SseConnection {
+
+        private final List<byte[]> frames = new ArrayList<>();
+        private volatile boolean ready = true;
+        private int flushCount;
+        private boolean closed;
+        private Runnable onWritable;
+        private Runnable onClosed;
+
+        @Override
+        public void start(Runnable onWritable, Runnable onClosed) {
+            this.onWritable = onWritable;
+            this.onClosed = onClosed;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void write(byte[] frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package chess.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class WebSocketOutboxTest {
+
+    private final List<String> sentFrames = new ArrayList<>();
+    private final List<CloseStatus> closeStatuses = new ArrayList<>();
+    private final Queue<Runnable> pendingSends = new ArrayDeque<>();
+    private boolean failSend;
+    private WebSocketOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketSession session = (WebSocketSession) Proxy.newProxyInstance(
+            WebSocketSession.class.getClassLoader(), new Class<?>[]{WebSocketSession.class},
+            (proxy, method, args) -> {
+                if ("sendMessage".equals(method.getName())) {
+                    if (failSend) {
+                        throw new IllegalStateException("전송 실패");
+                    }
+                    sentFrames.add(((TextMessage) args[0]).getPayload());
+                }
+                if ("close".equals(method.getName()) && args != null) {
+                    closeStatuses.add((CloseStatus) args[0]);
+                }
+                if ("getId".equals(method.getName())) {
+                    return "session";
+                }
+                return null;
+            });
+        outbox = WebSocketOutbox.of(session, pendingSends::add, 2, 1000);
+    }
+
+    @Test
+    void sendInOrderOneAtATime() {
+        outbox.offer("1");
+        outbox.offer("2");
+        assertThat(pendingSends).hasSize(1);
+
+        runPendingSends();
+
+        assertThat(sentFrames).containsExactly("1", "2");
+    }
+
+    @Test
+    void closeWhenQueueOverflows() {
+        assertThat(outbox.offer("1")).isTrue();
+        assertThat(outbox.offer("2")).isTrue();
+        assertThat(outbox.offer("3")).isTrue();
+        assertThat(outbox.offer("4")).isFalse();
+        assertThat(outbox.isClosed()).isTrue();
+
+        runPendingSends();
+
+        assertThat(sentFrames).containsExactly("1");
+        assertThat(closeStatuses).containsExactly(CloseStatus.SERVICE_OVERLOAD);
+        assertThat(outbox.offer("5")).isFalse();
+    }
+
+    @Test
+    void closeWhenSendFails() {
+        failSend = true;
+        outbox.offer("1");
+
+        runPendingSends();
+
+        assertThat(outbox.isClosed()).isTrue();
+        assertThat(closeStatuses).containsExactly(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void runPendingSends() {
+        Runnable send;
+        while ((send = pendingSends.poll()) != null) {
+            send.run();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package chess.model.domain.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.piece.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PackedMoveTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"a1, h8", "h8, a1", "e2, e4", "b7, b8"})
+    @DisplayName("이동을 코드로 변환한 뒤 다시 복원")
+    void packMove(String source, String target) {
+        PackedMove packedMove = PackedMove.ofMove(new MoveInfo(source, target));
+        PackedMove unpacked = PackedMove.of(packedMove.pack());
+
+        assertThat(unpacked).isEqualTo(packedMove);
+        assertThat(unpacked.getMoveInfo()).isEqualTo(new MoveInfo(source, target));
+        assertThat(unpacked.getPromotionType()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"knight", "bishop", "rook", "queen"})
+    @DisplayName("승격이 포함된 이동과 승격만 있는 기록 복원")
+    void packPromotion(String letter) {
+        Type type = Type.of(letter);
+        PackedMove moveWithPromotion = PackedMove.ofMove(new MoveInfo("b7", "b8"), type);
+        PackedMove promotion = PackedMove.ofPromotion(type);
+
+        assertThat(PackedMove.of(moveWithPromotion.pack()).getPromotionType()).contains(type);
+        assertThat(PackedMove.of(moveWithPromotion.pack()).hasMove()).isTrue();
+        assertThat(PackedMove.of(promotion.pack()).getPromotionType()).contains(type);
+        assertThat(PackedMove.of(promotion.pack()).hasMove()).isFalse();
+    }
+
+    @Test
+    @DisplayName("코드는 SMALLINT 범위 안에 들어감")
+    void packRange() {
+        PackedMove packedMove = PackedMove.ofMove(new MoveInfo("h8", "h7"), Type.QUEEN);
+        assertThat(packedMove.pack()).isLessThanOrEqualTo(Short.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 5 << 12, 1 << 16})
+    @DisplayName("잘못된 코드 복원시 예외 발생")
+    void invalidCode(int code) {
+        assertThatThrownBy(() -> PackedMove.of(code))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("승격할 수 없는 타입이나 제자리 이동은 기록할 수 없음")
+    void invalidMove() {
+        assertThatThrownBy(() -> PackedMove.ofPromotion(Type.KING))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PackedMove.ofMove(new MoveInfo("a1", "a1")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
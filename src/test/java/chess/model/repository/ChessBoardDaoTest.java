@@ -6,6 +6,7 @@ import chess.model.domain.board.ChessGame;
 import chess.model.domain.board.Square;
 import chess.model.domain.board.TeamScore;
 import chess.model.domain.piece.Team;
+import chess.model.dto.GameUpdateDto;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -78,6 +79,21 @@ class ChessBoardDaoTest {
         assertThat(CHESS_BOARD_DAO.findEnpassantBoard(GAME_ID).getEnPassantsKeys()).isEmpty();
     }
 
+    @Test
+    void insertAndDeleteBatch() {
+        ChessGame chessGame = new ChessGame();
+        GameUpdateDto gameUpdate = new GameUpdateDto(GAME_ID, 0, chessGame.getTurn(),
+            TEAM_SCORE, Collections.emptyList(), true, chessGame.getChessBoard(),
+            CASTLING_ELEMENTS, chessGame.getEnPassants());
+
+        CHESS_BOARD_DAO.delete(Collections.singleton(GAME_ID));
+        assertThat(CHESS_BOARD_DAO.findBoard(GAME_ID)).isEmpty();
+
+        CHESS_BOARD_DAO.create(Collections.singletonList(gameUpdate));
+        assertThat(CHESS_BOARD_DAO.findBoard(GAME_ID)).isEqualTo(chessGame.getChessBoard());
+        assertThat(CHESS_BOARD_DAO.findCastlingElements(GAME_ID).size()).isEqualTo(1);
+    }
+
     @Test
     void getCastlingElements() {
         assertThat(CHESS_BOARD_DAO.findCastlingElements(GAME_ID).size()).isEqualTo(1);
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import chess.model.domain.board.ChessGame;
 import chess.model.domain.board.TeamScore;
 import chess.model.domain.piece.Team;
+import chess.model.dto.GameUpdateDto;
+import chess.model.dto.MoveRecordDto;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,6 +59,20 @@ class ChessGameDaoTest {
         assertThat(CHESS_GAME_DAO.findCurrentTurn(gameId).get()).isEqualTo(GAME_TURN);
    }
 
+    @Test
+    void updateWithVersion() {
+        ChessGame chessGame = new ChessGame();
+        GameUpdateDto gameUpdate = new GameUpdateDto(gameId, 1, Team.WHITE, TEAM_SCORE,
+            Collections.singletonList(new MoveRecordDto(gameId, 1, 0)), false,
+            chessGame.getChessBoard(), Collections.emptyMap(), Collections.emptyMap());
+
+        assertThat(CHESS_GAME_DAO.update(Collections.singletonList(gameUpdate))).isEmpty();
+        assertThat(CHESS_GAME_DAO.findCurrentTurn(gameId).orElseThrow(IllegalAccessError::new))
+            .isEqualTo(Team.WHITE);
+        assertThat(CHESS_GAME_DAO.update(Collections.singletonList(gameUpdate)))
+            .containsExactly(gameId);
+    }
+
     @Test
     void updateProceedN() {
         assertThat(
@@ -0,0 +1,90 @@
+package chess.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
+import chess.model.domain.state.MoveInfo;
+import chess.model.domain.state.PackedMove;
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.exception.DataAccessException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChessMoveDaoTest {
+
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+    private static final ChessGameDao CHESS_GAME_DAO = ChessGameDao.getInstance();
+    private static final int ROOM_ID = 1;
+    private static final int FIRST_MOVE = PackedMove.ofMove(new MoveInfo("e2", "e4")).pack();
+    private static final int SECOND_MOVE = PackedMove.ofMove(new MoveInfo("e7", "e5")).pack();
+
+    private int gameId;
+
+    @BeforeEach
+    void setUp() {
+        Map<Team, String> userNames = new HashMap<>();
+        userNames.put(Team.BLACK, "BLACK");
+        userNames.put(Team.WHITE, "WHITE");
+        gameId = CHESS_GAME_DAO.create(ROOM_ID, Team.WHITE, userNames,
+            new ChessGame().deriveTeamScore());
+        CHESS_MOVE_DAO.create(Arrays.asList(new MoveRecordDto(gameId, 1, FIRST_MOVE),
+            new MoveRecordDto(gameId, 2, SECOND_MOVE)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        CHESS_MOVE_DAO.delete(gameId);
+        CHESS_GAME_DAO.delete(gameId);
+    }
+
+    @Test
+    void getInstance() {
+        ChessMoveDao chessMoveDao1 = ChessMoveDao.getInstance();
+        ChessMoveDao chessMoveDao2 = ChessMoveDao.getInstance();
+        assertThat(chessMoveDao1 == chessMoveDao2).isTrue();
+    }
+
+    @Test
+    void findMoveCodesAfter() {
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0))
+            .containsExactly(FIRST_MOVE, SECOND_MOVE);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 1)).containsExactly(SECOND_MOVE);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 2)).isEmpty();
+    }
+
+    @Test
+    void findAllAfter() {
+        List<Integer> moveCodes = new ArrayList<>();
+        CHESS_MOVE_DAO.findAllAfter(gameId - 1, 1, moveRecord -> {
+            if (moveRecord.getGameId() == gameId) {
+                moveCodes.add(moveRecord.getMoveCode());
+            }
+        });
+        assertThat(moveCodes).containsExactly(FIRST_MOVE, SECOND_MOVE);
+    }
+
+    @DisplayName("같은 수순의 기보를 다시 추가하면 예외")
+    @Test
+    void createDuplicatedPly() {
+        assertThatThrownBy(() -> CHESS_MOVE_DAO
+            .create(Collections.singletonList(new MoveRecordDto(gameId, 2, FIRST_MOVE))))
+            .isInstanceOf(DataAccessException.class);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 1)).containsExactly(SECOND_MOVE);
+    }
+
+    @Test
+    void delete() {
+        CHESS_MOVE_DAO.delete(gameId);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).isEmpty();
+    }
+}
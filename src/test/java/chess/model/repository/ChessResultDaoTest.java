@@ -2,10 +2,14 @@ package chess.model.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
 import chess.model.dto.GameResultDto;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
@@ -54,6 +58,44 @@ class ChessResultDaoTest {
             .isEqualTo(gameResultDto);
     }
 
+    @Test
+    void addResults() {
+        CHESS_RESULT_DAO.update(FIRST_NAME, new GameResultDto(1, 1, 1));
+        CHESS_RESULT_DAO.update(SECOND_NAME, new GameResultDto(0, 0, 0));
+        Map<String, GameResultDto> gameResults = new HashMap<>();
+        gameResults.put(FIRST_NAME, new GameResultDto(1, 0, 0));
+        gameResults.put(SECOND_NAME, new GameResultDto(0, 0, 1));
+
+        CHESS_RESULT_DAO.addResults(gameResults);
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw(FIRST_NAME).orElseThrow(IllegalAccessError::new))
+            .isEqualTo(new GameResultDto(2, 1, 1));
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw(SECOND_NAME).orElseThrow(IllegalAccessError::new))
+            .isEqualTo(new GameResultDto(0, 0, 1));
+    }
+
+    @Test
+    void addResultsOfProceedGames() {
+        RoomDao roomDao = RoomDao.getInstance();
+        ChessGameDao chessGameDao = ChessGameDao.getInstance();
+        int roomId = roomDao.create("결과방", "1234");
+        Map<Team, String> userNames = new HashMap<>();
+        userNames.put(Team.BLACK, FIRST_NAME);
+        userNames.put(Team.WHITE, SECOND_NAME);
+        int gameId = chessGameDao.create(roomId, Team.WHITE, userNames,
+            new ChessGame().deriveTeamScore());
+
+        CHESS_RESULT_DAO.addResultsOfProceedGames(roomId);
+        chessGameDao.updateProceedNBy(roomId);
+        CHESS_RESULT_DAO.addResultsOfProceedGames(roomId);
+
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw(FIRST_NAME).orElseThrow(IllegalAccessError::new))
+            .isEqualTo(new GameResultDto(0, 1, 0));
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw(SECOND_NAME).orElseThrow(IllegalAccessError::new))
+            .isEqualTo(new GameResultDto(0, 1, 0));
+        chessGameDao.delete(gameId);
+        roomDao.delete(roomId);
+    }
+
     @Test
     void insert() {
         CHESS_RESULT_DAO.delete(USER_NAMES);
@@ -65,6 +107,16 @@ class ChessResultDaoTest {
         assertThat(CHESS_RESULT_DAO.findWinOrDraw(SECOND_NAME)).isNotEmpty();
     }
 
+    @Test
+    void insertExistingUserNames() {
+        CHESS_RESULT_DAO.update(FIRST_NAME, new GameResultDto(1, 0, 0));
+
+        CHESS_RESULT_DAO.createUserNames(new HashSet<>(Arrays.asList(FIRST_NAME, SECOND_NAME)));
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw(FIRST_NAME).orElseThrow(IllegalAccessError::new))
+            .isEqualTo(new GameResultDto(1, 0, 0));
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw(SECOND_NAME)).isNotEmpty();
+    }
+
     @Test
     void delete() {
         assertThat(CHESS_RESULT_DAO.findWinOrDraw(FIRST_NAME)).isNotEmpty();
@@ -93,7 +145,9 @@ class ChessResultDaoTest {
 
     @Test
     void getUsers() {
-        assertThat(CHESS_RESULT_DAO.findUserNames().contains(FIRST_NAME)).isTrue();
-        assertThat(CHESS_RESULT_DAO.findUserNames().contains(SECOND_NAME)).isTrue();
+        assertThat(CHESS_RESULT_DAO.findUserNames("TEST1", 100).contains(FIRST_NAME)).isTrue();
+        assertThat(CHESS_RESULT_DAO.findUserNames("TEST2", 100).contains(SECOND_NAME)).isTrue();
+        assertThat(CHESS_RESULT_DAO.findUserNames(FIRST_NAME, 100).contains(FIRST_NAME))
+            .isFalse();
     }
 }
\ No newline at end of file
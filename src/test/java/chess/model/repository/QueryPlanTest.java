@@ -0,0 +1,110 @@
+package chess.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.model.repository.migration.SchemaMigrator;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class QueryPlanTest {
+
+    private static final String URL = "jdbc:h2:mem:query_plan;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final Pattern INDEX_COMMENT = Pattern.compile("/\\* (PUBLIC\\.[^*]*)\\*/");
+    private static final List<Class<?>> DAO_CLASSES = Arrays.asList(ChessBoardDao.class,
+        ChessGameDao.class, ChessMoveDao.class, ChessResultDao.class, RoomDao.class);
+
+    private static Connection conn;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        conn = DriverManager.getConnection(URL, "sa", "");
+        SchemaMigrator.getInstance().migrate(conn);
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    @DisplayName("마이그레이션을 다시 실행해도 최신 버전을 유지")
+    @Test
+    void migrateAgain() {
+        int version = SchemaMigrator.getInstance().migrate(conn);
+        assertThat(version).isEqualTo(SchemaMigrator.getScriptNames().size());
+    }
+
+    @DisplayName("모든 DAO 쿼리가 전체 스캔 없이 인덱스를 사용")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("daoQueries")
+    void explainWithoutFullScan(String name, String query) throws SQLException {
+        String plan = explain(query);
+        Matcher matcher = INDEX_COMMENT.matcher(plan);
+
+        List<String> accesses = new ArrayList<>();
+        while (matcher.find()) {
+            accesses.add(matcher.group(1).trim());
+        }
+
+        assertThat(accesses).as(plan).isNotEmpty();
+        assertThat(accesses).as(plan).allMatch(access -> access.contains(":"));
+    }
+
+    private String explain(String query) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("EXPLAIN " + query)) {
+            int parameterCount = pstmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                pstmt.setObject(i, 1);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private static Stream<Arguments> daoQueries() {
+        List<Arguments> queries = new ArrayList<>();
+        for (Class<?> daoClass : DAO_CLASSES) {
+            for (Field field : daoClass.getDeclaredFields()) {
+                String query = getQuery(field);
+                if (query != null && !query.trim().startsWith("INSERT")) {
+                    queries.add(Arguments.of(
+                        daoClass.getSimpleName() + "." + field.getName(), query));
+                }
+            }
+        }
+        return queries.stream();
+    }
+
+    private static String getQuery(Field field) {
+        if (!Modifier.isStatic(field.getModifiers()) || !field.getName().endsWith("_QUERY")) {
+            return null;
+        }
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
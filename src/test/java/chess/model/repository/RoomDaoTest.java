@@ -64,9 +64,19 @@ class RoomDaoTest {
     @Test
     void selectUsedOnly() {
         assertThat(ROOM_DAO.findInfo(roomId).get("USED_YN")).isEqualTo("Y");
-        assertThat(ROOM_DAO.findUsed().containsKey(roomId)).isTrue();
+        assertThat(ROOM_DAO.findUsed(roomId - 1, 1).containsKey(roomId)).isTrue();
         ROOM_DAO.updateUsedN(roomId);
-        assertThat(ROOM_DAO.findUsed().containsKey(roomId)).isFalse();
+        assertThat(ROOM_DAO.findUsed(roomId - 1, 1).containsKey(roomId)).isFalse();
+    }
+
+    @Test
+    void selectUsedAfterCursor() {
+        int nextRoomId = ROOM_DAO.create(ROOM_NAME, ROOM_PASSWORD);
+        assertThat(ROOM_DAO.findUsed(roomId - 1, 2).keySet())
+            .containsExactly(roomId, nextRoomId);
+        assertThat(ROOM_DAO.findUsed(roomId, 2).keySet()).containsExactly(nextRoomId);
+        assertThat(ROOM_DAO.findUsed(roomId - 1, 1).keySet()).containsExactly(roomId);
+        ROOM_DAO.delete(nextRoomId);
     }
 
     @Test
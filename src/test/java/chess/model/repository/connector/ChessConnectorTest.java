@@ -0,0 +1,72 @@
+package chess.model.repository.connector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.model.repository.RoomDao;
+import chess.model.repository.connector.ReadRouting.Scope;
+import chess.model.repository.migration.SchemaMigrator;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ChessConnectorTest {
+
+    private static final RoomDao ROOM_DAO = RoomDao.getInstance();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ChessConnector.setDataSource(migratedDataSource("routing_primary"));
+        ChessConnector.setReplicaDataSource(migratedDataSource("routing_replica"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChessConnector.clear();
+    }
+
+    private DataSource migratedDataSource(String name) throws SQLException {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection conn = dataSource.getConnection()) {
+            SchemaMigrator.getInstance().migrate(conn);
+        }
+        return dataSource;
+    }
+
+    @DisplayName("scope 밖의 읽기는 primary에서 수행")
+    @Test
+    void readPrimaryOutsideScope() {
+        int roomId = ROOM_DAO.create("라우팅", "");
+        assertThat(ROOM_DAO.findInfo(roomId)).isNotEmpty();
+    }
+
+    @DisplayName("scope 안에서는 쓰기 전까지 replica, 쓰기 이후 primary에서 읽음")
+    @Test
+    void readYourWritesInScope() {
+        int roomId = ROOM_DAO.create("라우팅", "");
+        try (Scope scope = ReadRouting.openScope()) {
+            assertThat(ROOM_DAO.findInfo(roomId)).isEmpty();
+
+            ROOM_DAO.updateUsedN(roomId);
+            assertThat(ROOM_DAO.findInfo(roomId).get("USED_YN")).isEqualTo("N");
+        }
+    }
+
+    @DisplayName("안쪽 scope의 쓰기는 바깥 scope에도 유지")
+    @Test
+    void nestedScopeKeepsPinned() {
+        int roomId = ROOM_DAO.create("라우팅", "");
+        try (Scope outer = ReadRouting.openScope()) {
+            try (Scope inner = ReadRouting.openScope()) {
+                ROOM_DAO.updateUsedN(roomId);
+            }
+            assertThat(ROOM_DAO.findInfo(roomId)).isNotEmpty();
+        }
+        assertThat(ReadRouting.isReplicaReadable()).isFalse();
+    }
+}
@@ -0,0 +1,34 @@
+package chess.model.repository.connector;
+
+import chess.model.repository.migration.SchemaMigrator;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class TestDataSources {
+
+    private TestDataSources() {
+    }
+
+    public static DataSource h2(String name) {
+        return new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    public static DataSource migrated(String name) throws SQLException {
+        DataSource dataSource = h2(name);
+        try (Connection conn = dataSource.getConnection()) {
+            SchemaMigrator.getInstance().migrate(conn);
+        }
+        return dataSource;
+    }
+
+    public static void usePrimary(DataSource dataSource) {
+        ChessConnector.setDataSource(dataSource);
+    }
+
+    public static void clear() {
+        ChessConnector.clear();
+    }
+}
@@ -0,0 +1,90 @@
+package chess.model.repository.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SchemaMigratorTest {
+
+    private static final SchemaMigrator SCHEMA_MIGRATOR = SchemaMigrator.getInstance();
+
+    private Connection conn;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:;MODE=MySQL", "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    @Test
+    void parseVersion() {
+        assertThat(SchemaMigrator.parseVersion("V4__add_game_version.sql")).isEqualTo(4);
+    }
+
+    @DisplayName("빈 DB는 모든 스크립트를 적용")
+    @Test
+    void migrateEmptyDatabase() throws SQLException {
+        int version = SCHEMA_MIGRATOR.migrate(conn);
+
+        assertThat(version).isEqualTo(SchemaMigrator.getScriptNames().size());
+        assertThat(hasColumn("CHESS_GAME_TB", "SNAPSHOT_PLY")).isTrue();
+        assertThat(hasColumn("CHESS_GAME_TB", "VERSION")).isTrue();
+        assertThat(hasColumn("CHESS_MOVE_TB", "MOVE_CD")).isTrue();
+    }
+
+    @DisplayName("기존 schema.sql로 만든 DB는 V1을 건너뛰고 나머지를 적용")
+    @Test
+    void migrateBaselineDatabase() throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String statement : SchemaMigrator.readStatements("V1__create_tables.sql")) {
+                stmt.execute(statement);
+            }
+            stmt.execute("INSERT INTO ROOM_TB(ID, NM) VALUES (1, 'baseline')");
+            stmt.execute("INSERT INTO CHESS_GAME_TB(ID, ROOM_ID, TURN_NM, BLACK_USER_NM"
+                + ", WHITE_USER_NM, BLACK_SCORE, WHITE_SCORE)"
+                + " VALUES (1, 1, 'BLACK', 'black', 'white', 38, 37)");
+        }
+        assertThat(hasColumn("CHESS_GAME_TB", "SNAPSHOT_PLY")).isFalse();
+
+        int version = SCHEMA_MIGRATOR.migrate(conn);
+
+        assertThat(version).isEqualTo(SchemaMigrator.getScriptNames().size());
+        try (Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery("SELECT SNAPSHOT_PLY, SNAPSHOT_TURN_NM, VERSION"
+                + " FROM CHESS_GAME_TB WHERE ID = 1")) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getInt("SNAPSHOT_PLY")).isEqualTo(0);
+            assertThat(rs.getString("SNAPSHOT_TURN_NM")).isEqualTo("BLACK");
+            assertThat(rs.getInt("VERSION")).isEqualTo(0);
+        }
+        assertThat(hasColumn("CHESS_MOVE_TB", "MOVE_CD")).isTrue();
+    }
+
+    @DisplayName("마이그레이션을 다시 실행해도 최신 버전을 유지")
+    @Test
+    void migrateAgain() {
+        SCHEMA_MIGRATOR.migrate(conn);
+
+        assertThat(SCHEMA_MIGRATOR.migrate(conn))
+            .isEqualTo(SchemaMigrator.getScriptNames().size());
+    }
+
+    private boolean hasColumn(String tableName, String columnName) throws SQLException {
+        try (ResultSet rs = conn.getMetaData()
+            .getColumns(conn.getCatalog(), null, tableName, columnName)) {
+            return rs.next();
+        }
+    }
+}
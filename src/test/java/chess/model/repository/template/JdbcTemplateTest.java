@@ -0,0 +1,61 @@
+package chess.model.repository.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.repository.RoomDao;
+import chess.model.repository.connector.TestDataSources;
+import java.sql.SQLException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JdbcTemplateTest {
+
+    private static final RoomDao ROOM_DAO = RoomDao.getInstance();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDataSources.usePrimary(TestDataSources.migrated("jdbc_template"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataSources.clear();
+    }
+
+    @DisplayName("트랜잭션 안의 쓰기는 함께 commit")
+    @Test
+    void commitTransaction() {
+        int roomId = JdbcTemplate.executeInTransaction(() -> {
+            int createdId = ROOM_DAO.create("트랜잭션", "");
+            ROOM_DAO.updateUsedN(createdId);
+            return createdId;
+        });
+
+        assertThat(ROOM_DAO.findInfo(roomId).get("USED_YN")).isEqualTo("N");
+    }
+
+    @DisplayName("트랜잭션 안에서 예외가 나면 앞선 쓰기도 rollback")
+    @Test
+    void rollbackTransaction() {
+        int[] roomId = new int[1];
+
+        assertThatThrownBy(() -> JdbcTemplate.runInTransaction(() -> {
+            roomId[0] = ROOM_DAO.create("트랜잭션", "");
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(ROOM_DAO.findInfo(roomId[0])).isEmpty();
+    }
+
+    @DisplayName("트랜잭션 안의 읽기는 같은 connection에서 쓰기 결과를 봄")
+    @Test
+    void readOwnWritesInTransaction() {
+        JdbcTemplate.runInTransaction(() -> {
+            int roomId = ROOM_DAO.create("트랜잭션", "");
+            assertThat(ROOM_DAO.findInfo(roomId)).isNotEmpty();
+        });
+    }
+}
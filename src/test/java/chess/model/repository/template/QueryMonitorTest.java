@@ -0,0 +1,42 @@
+package chess.model.repository.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.model.dto.QueryStatisticsDto;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class QueryMonitorTest {
+
+    private static final QueryMonitor MONITOR = QueryMonitor.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        MONITOR.clear();
+    }
+
+    @Test
+    void fingerprint() {
+        assertThat(QueryMonitor.fingerprint("SELECT ID   FROM ROOM_TB WHERE USED_YN = 'Y' LIMIT 10"))
+            .isEqualTo("SELECT ID FROM ROOM_TB WHERE USED_YN = ? LIMIT ?");
+        assertThat(QueryMonitor.fingerprint("SELECT NM FROM ROOM_TB WHERE ID = ?"))
+            .isEqualTo("SELECT NM FROM ROOM_TB WHERE ID = ?");
+    }
+
+    @Test
+    void aggregateByFingerprint() {
+        for (int i = 1; i <= 100; i++) {
+            MONITOR.record("SELECT NM FROM ROOM_TB WHERE ID = " + i,
+                TimeUnit.MILLISECONDS.toNanos(i), 1, 1);
+        }
+
+        QueryStatisticsDto statistics = MONITOR.getStatistics().get(0);
+        assertThat(statistics.getFingerprint()).isEqualTo("SELECT NM FROM ROOM_TB WHERE ID = ?");
+        assertThat(statistics.getCount()).isEqualTo(100);
+        assertThat(statistics.getRows()).isEqualTo(100);
+        assertThat(statistics.getP50Millis()).isEqualTo(50);
+        assertThat(statistics.getP99Millis()).isEqualTo(99);
+        assertThat(statistics.getMaxMillis()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,97 @@
+package chess.model.repository.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.model.dto.CacheStatisticsDto;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StatementCacheMonitorTest {
+
+    private static final StatementCacheMonitor MONITOR = StatementCacheMonitor.getInstance();
+    private static final String URL = "jdbc:h2:mem:statement_cache;MODE=MySQL";
+    private static final String FIRST_QUERY = "SELECT 1";
+    private static final String SECOND_QUERY = "SELECT 2";
+
+    @AfterEach
+    void tearDown() {
+        MONITOR.setCacheSize(250);
+    }
+
+    @Test
+    void hitOnSameConnection() throws SQLException {
+        CacheStatisticsDto before = MONITOR.getStatistics();
+        try (Connection conn = DriverManager.getConnection(URL, "sa", "")) {
+            MONITOR.record(conn, FIRST_QUERY);
+            MONITOR.record(conn, FIRST_QUERY);
+        }
+        CacheStatisticsDto after = MONITOR.getStatistics();
+
+        assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(1);
+        assertThat(after.getMissCount() - before.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void missOnOtherConnection() throws SQLException {
+        CacheStatisticsDto before = MONITOR.getStatistics();
+        try (Connection first = DriverManager.getConnection(URL, "sa", "");
+            Connection second = DriverManager.getConnection(URL, "sa", "")) {
+            MONITOR.record(first, FIRST_QUERY);
+            MONITOR.record(second, FIRST_QUERY);
+        }
+        CacheStatisticsDto after = MONITOR.getStatistics();
+
+        assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(0);
+        assertThat(after.getMissCount() - before.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void evictLeastRecentlyPrepared() throws SQLException {
+        MONITOR.setCacheSize(1);
+        CacheStatisticsDto before = MONITOR.getStatistics();
+        try (Connection conn = DriverManager.getConnection(URL, "sa", "")) {
+            MONITOR.record(conn, FIRST_QUERY);
+            MONITOR.record(conn, SECOND_QUERY);
+            MONITOR.record(conn, FIRST_QUERY);
+        }
+        CacheStatisticsDto after = MONITOR.getStatistics();
+
+        assertThat(after.getMissCount() - before.getMissCount()).isEqualTo(3);
+        assertThat(after.getEvictionCount() - before.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recordConcurrently() throws SQLException {
+        CacheStatisticsDto before = MONITOR.getStatistics();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Connection first = DriverManager.getConnection(URL, "sa", "");
+            Connection second = DriverManager.getConnection(URL, "sa", "")) {
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Connection conn = i % 2 == 0 ? first : second;
+                results.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        MONITOR.record(conn, FIRST_QUERY);
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            results.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+        CacheStatisticsDto after = MONITOR.getStatistics();
+
+        assertThat(after.getMissCount() - before.getMissCount()).isEqualTo(2);
+        assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(98);
+    }
+}
@@ -0,0 +1,281 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.piece.Team;
+import chess.model.domain.piece.Type;
+import chess.model.domain.state.MoveInfo;
+import chess.model.domain.state.MoveState;
+import chess.model.domain.state.PackedMove;
+import chess.model.dto.ChessGameDto;
+import chess.model.dto.MoveDto;
+import chess.model.dto.PremoveDto;
+import chess.model.dto.PremovesDto;
+import chess.model.repository.ChessMoveDao;
+import chess.model.repository.ChessResultDao;
+import chess.model.repository.RoomDao;
+import chess.model.repository.connector.ChessConnector;
+import chess.model.repository.connector.ReadRouting;
+import chess.model.repository.connector.ReadRouting.Scope;
+import chess.model.repository.connector.TestDataSources;
+import chess.model.repository.exception.DataAccessException;
+import chess.service.cache.ChessGameCache;
+import chess.service.cache.ChessGameWriteBehind;
+import chess.service.cache.ChessGameWriter;
+import chess.service.lane.GameLaneExecutor;
+import chess.service.premove.PremoveQueue;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChessGameServiceTest {
+
+    private static final ChessResultDao CHESS_RESULT_DAO = ChessResultDao.getInstance();
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+
+    private final List<GameLaneExecutor> gameLaneExecutors = new ArrayList<>();
+    private final List<Integer> notifiedVersions = new ArrayList<>();
+    private ChessGameService chessGameService;
+    private Map<Team, String> userNames;
+    private Integer roomId;
+    private Integer gameId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDataSources.usePrimary(TestDataSources.migrated("chess_game_service_primary"));
+        ChessConnector.setReplicaDataSource(
+            TestDataSources.migrated("chess_game_service_replica"));
+        chessGameService = newChessGameService();
+        userNames = new HashMap<>();
+        userNames.put(Team.BLACK, "black");
+        userNames.put(Team.WHITE, "white");
+        roomId = RoomDao.getInstance().create("service", "");
+        gameId = chessGameService.create(roomId, userNames);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameLaneExecutors.forEach(GameLaneExecutor::shutdown);
+        TestDataSources.clear();
+    }
+
+    private ChessGameService newChessGameService() {
+        ChessGameCache chessGameCache = new ChessGameCache(100, 600);
+        ChessGameWriter chessGameWriter = new ChessGameWriter(20);
+        GameLaneExecutor gameLaneExecutor = new GameLaneExecutor(4);
+        gameLaneExecutors.add(gameLaneExecutor);
+        return new ChessGameService(chessGameCache, chessGameWriter,
+            new ChessGameWriteBehind(chessGameWriter, chessGameCache, false, 300),
+            gameLaneExecutor, new PremoveQueue(8), Collections.singletonList(
+                (updatedGameId, version, chessGameDto) -> notifiedVersions.add(version)));
+    }
+
+    @DisplayName("캐시를 채우는 로드는 replica가 아닌 primary에서 읽음")
+    @Test
+    void loadFromPrimaryInReplicaScope() {
+        ChessGameService restartedService = newChessGameService();
+
+        try (Scope scope = ReadRouting.openScope()) {
+            ChessGameDto chessGameDto = restartedService.loadChessGame(gameId);
+
+            assertThat(chessGameDto.getTurn()).isEqualTo("WHITE");
+            assertThat(chessGameDto.getBlackName()).isEqualTo("black");
+        }
+    }
+
+    @DisplayName("같은 방에 새 게임을 만들면 진행 중인 게임을 닫고 결과를 한 번 기록")
+    @Test
+    void closeGamesOfRoom() {
+        int drawCount = CHESS_RESULT_DAO.findWinOrDraw("black").get().getDrawCount();
+
+        Integer newGameId = chessGameService.create(roomId, userNames);
+
+        assertThat(chessGameService.isGameProceed(gameId)).isFalse();
+        assertThat(chessGameService.isGameProceed(newGameId)).isTrue();
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw("black").get().getDrawCount())
+            .isEqualTo(drawCount + 1);
+    }
+
+    @DisplayName("승격을 포함한 이동은 승격 종류까지 기보에 남기고 다시 불러와도 유지")
+    @Test
+    void moveWithPromotion() {
+        moveAll("a2", "a4", "b7", "b5", "a4", "b5", "a7", "a6", "b5", "a6", "c8", "b7",
+            "a6", "b7", "b8", "c6");
+
+        ChessGameDto chessGameDto
+            = chessGameService.move(new MoveDto("b7", "a8", gameId, "queen"));
+
+        assertThat(chessGameDto.getState()).isEqualTo(MoveState.SUCCESS_PROMOTION.getMessage());
+        List<Integer> moveCodes = CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0);
+        assertThat(moveCodes).hasSize(9);
+        assertThat(moveCodes.get(8))
+            .isEqualTo(PackedMove.ofMove(new MoveInfo("b7", "a8"), Type.QUEEN).pack());
+        ChessGameDto reloaded = newChessGameService().loadChessGame(gameId);
+        assertThat(reloaded.getPieces().get(0)).isEqualTo("♕");
+        assertThat(reloaded.getTurn()).isEqualTo("BLACK");
+    }
+
+    @DisplayName("마지막 줄에 닿지 않는 이동에 승격을 요청하면 저장하지 않음")
+    @Test
+    void moveWithPromotionNotLastRank() {
+        ChessGameDto chessGameDto
+            = chessGameService.move(new MoveDto("a2", "a4", gameId, "queen"));
+
+        assertThat(chessGameDto.getState())
+            .isEqualTo(MoveState.NO_PAWN_PROMOTION.getMessage());
+        assertThat(chessGameDto.getTurn()).isEqualTo("WHITE");
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).isEmpty();
+    }
+
+    @DisplayName("왕을 잡으며 마지막 줄에 도착한 폰도 요청한 승격을 적용하고 기보에 남김")
+    @Test
+    void kingCapturedWithPromotion() {
+        moveAll("e2", "e4", "a7", "a6", "e4", "e5", "a6", "a5", "e5", "e6", "a5", "a4",
+            "e6", "f7", "h7", "h6");
+        int winCount = CHESS_RESULT_DAO.findWinOrDraw("white").get().getWinCount();
+
+        ChessGameDto chessGameDto
+            = chessGameService.move(new MoveDto("f7", "e8", gameId, "queen"));
+
+        assertThat(chessGameDto.getState()).isEqualTo(MoveState.KING_CAPTURED.getMessage());
+        assertThat(chessGameDto.getPieces().get(4)).isEqualTo("♕");
+        assertThat(chessGameService.isGameProceed(gameId)).isFalse();
+        assertThat(CHESS_RESULT_DAO.findWinOrDraw("white").get().getWinCount())
+            .isEqualTo(winCount + 1);
+        List<Integer> moveCodes = CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0);
+        assertThat(moveCodes.get(moveCodes.size() - 1))
+            .isEqualTo(PackedMove.ofMove(new MoveInfo("f7", "e8"), Type.QUEEN).pack());
+    }
+
+    @DisplayName("게임을 끝내는 수의 결과 기록이 실패하면 게임 종료와 기보도 rollback")
+    @Test
+    void rollbackFinalMoveWhenResultFails() throws SQLException {
+        moveAll("e2", "e4", "a7", "a6", "e4", "e5", "a6", "a5", "e5", "e6", "a5", "a4",
+            "e6", "f7", "h7", "h6");
+
+        renameTable("CHESS_RESULT_TB", "CHESS_RESULT_BACKUP_TB");
+        try {
+            assertThatThrownBy(
+                () -> chessGameService.move(new MoveDto("f7", "e8", gameId, "queen")))
+                .isInstanceOf(DataAccessException.class);
+        } finally {
+            renameTable("CHESS_RESULT_BACKUP_TB", "CHESS_RESULT_TB");
+        }
+
+        assertThat(chessGameService.isGameProceed(gameId)).isTrue();
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(8);
+        assertThat(chessGameService.loadChessGame(gameId).getTurn()).isEqualTo("WHITE");
+    }
+
+    @DisplayName("상대가 예상한 수를 두면 예약 수를 이어서 적용")
+    @Test
+    void applyPremoveWhenExpectedMovePlayed() {
+        submitBlackPremove(new PremoveDto("a7", "a6", null, "e2", "e4"));
+
+        chessGameService.move(new MoveDto("e2", "e4", gameId));
+
+        ChessGameDto chessGameDto = chessGameService.loadChessGame(gameId);
+        assertThat(chessGameDto.getTurn()).isEqualTo("WHITE");
+        assertThat(chessGameDto.getPieces().get(16)).isEqualTo("♟");
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(2);
+    }
+
+    @DisplayName("상대가 예상한 수를 둔 뒤에 예약해도 바로 적용")
+    @Test
+    void applyPremoveSubmittedAfterExpectedMove() {
+        chessGameService.move(new MoveDto("e2", "e4", gameId));
+
+        ChessGameDto chessGameDto = chessGameService.submitPremoves(new PremovesDto(gameId,
+            "BLACK", Collections.singletonList(new PremoveDto("a7", "a6", null, "e2", "e4"))));
+
+        assertThat(chessGameDto.getTurn()).isEqualTo("WHITE");
+        assertThat(chessGameDto.getPieces().get(16)).isEqualTo("♟");
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(2);
+    }
+
+    @DisplayName("상대가 예상과 다른 수를 두면 예약 수를 버림")
+    @Test
+    void clearPremoveWhenOtherMovePlayed() {
+        submitBlackPremove(new PremoveDto("a7", "a6", null, "e2", "e4"));
+
+        chessGameService.move(new MoveDto("d2", "d4", gameId));
+
+        ChessGameDto chessGameDto = chessGameService.loadChessGame(gameId);
+        assertThat(chessGameDto.getTurn()).isEqualTo("BLACK");
+        assertThat(chessGameDto.getPieces().get(8)).isEqualTo("♟");
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(1);
+    }
+
+    @DisplayName("불러온 게임으로 구독하는 동안 들어온 이동은 구독이 끝난 뒤 알림")
+    @Test
+    void moveWhileSubscribing() throws Exception {
+        ExecutorService players = Executors.newSingleThreadExecutor();
+        List<Integer> versionsWhileSubscribing = new ArrayList<>();
+        List<Future<ChessGameDto>> moves = new ArrayList<>();
+
+        String subscribedTurn = chessGameService.withChessGame(gameId, chessGameDto -> {
+            moves.add(players.submit(() -> chessGameService.move(new MoveDto("e2", "e4", gameId))));
+            sleepQuietly(100);
+            versionsWhileSubscribing.addAll(notifiedVersions);
+            return chessGameDto.getTurn();
+        });
+
+        assertThat(subscribedTurn).isEqualTo("WHITE");
+        assertThat(versionsWhileSubscribing).isEmpty();
+        assertThat(moves.get(0).get().getTurn()).isEqualTo("BLACK");
+        assertThat(notifiedVersions).containsExactly(1);
+        players.shutdown();
+    }
+
+    @DisplayName("게임 변경 알림에 저장된 게임 버전을 함께 전달")
+    @Test
+    void notifyWithVersion() {
+        chessGameService.move(new MoveDto("e2", "e4", gameId));
+        chessGameService.move(new MoveDto("a7", "a6", gameId));
+        chessGameService.closeGame(gameId);
+
+        assertThat(notifiedVersions).containsExactly(1, 2, 2);
+    }
+
+    private void submitBlackPremove(PremoveDto premoveDto) {
+        ChessGameDto chessGameDto = chessGameService.submitPremoves(
+            new PremovesDto(gameId, "BLACK", Collections.singletonList(premoveDto)));
+        assertThat(chessGameDto.getTurn()).isEqualTo("WHITE");
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void renameTable(String tableName, String newTableName) throws SQLException {
+        try (Connection conn = ChessConnector.getConnection();
+            Statement statement = conn.createStatement()) {
+            statement.execute("ALTER TABLE " + tableName + " RENAME TO " + newTableName);
+        }
+    }
+
+    private void moveAll(String... squares) {
+        for (int i = 0; i < squares.length; i += 2) {
+            ChessGameDto chessGameDto
+                = chessGameService.move(new MoveDto(squares[i], squares[i + 1], gameId));
+            assertThat(chessGameDto.getState()).isEqualTo(MoveState.SUCCESS.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.model.dto.StatementStatisticsDto;
+import chess.model.repository.connector.TestDataSources;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MonitoringServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        TestDataSources.usePrimary(TestDataSources.h2("monitoring_service"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataSources.clear();
+    }
+
+    @DisplayName("서버 카운터를 읽을 수 없는 DB에서는 추정치임을 표시")
+    @Test
+    void fallBackToEstimate() {
+        StatementStatisticsDto statistics = new MonitoringService().getStatementStatistics();
+
+        assertThat(statistics.getSource()).isEqualTo("estimate");
+        assertThat(statistics.getExecuteCount())
+            .isEqualTo(statistics.getEstimate().getHitCount()
+                + statistics.getEstimate().getMissCount());
+    }
+}
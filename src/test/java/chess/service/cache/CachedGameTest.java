@@ -0,0 +1,71 @@
+package chess.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
+import chess.model.domain.state.MoveInfo;
+import chess.model.domain.state.MoveState;
+import chess.model.dto.BoardDeltaDto;
+import chess.model.dto.ChessGameDto;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachedGameTest {
+
+    private Map<Team, String> userNames;
+    private CachedGame cachedGame;
+
+    @BeforeEach
+    void setUp() {
+        userNames = new HashMap<>();
+        userNames.put(Team.BLACK, "BLACK");
+        userNames.put(Team.WHITE, "WHITE");
+        cachedGame = new CachedGame(new ChessGame(), userNames, 0);
+    }
+
+    @Test
+    void deltaSinceKnownVersion() {
+        ChessGame chessGame = cachedGame.copyChessGame();
+        MoveState moveState = chessGame.move(new MoveInfo("a2", "a4"));
+        ChessGameDto board
+            = new ChessGameDto(chessGame, moveState, chessGame.deriveTeamScore(), userNames);
+        CachedGame savedGame = cachedGame.next(chessGame, board);
+
+        BoardDeltaDto delta = savedGame.deltaSince(0, board);
+
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(1);
+        assertThat(delta.getChanges()).hasSize(2);
+        assertThat(delta.getTurn()).isEqualTo(board.getTurn());
+        assertThat(delta.getBlackName()).isNull();
+        assertThat(delta.getState()).isEqualTo(moveState.getMessage());
+    }
+
+    @Test
+    void deltaSinceUnknownVersion() {
+        ChessGameDto board = new ChessGameDto(cachedGame.copyChessGame(), userNames);
+
+        BoardDeltaDto delta = cachedGame.deltaSince(5, board);
+
+        assertThat(delta.isFull()).isTrue();
+        assertThat(delta.getPieces()).hasSize(64);
+        assertThat(delta.getChanges()).isNull();
+        assertThat(cachedGame.deltaSince(null, board).isFull()).isTrue();
+    }
+
+    @Test
+    void keepOnlyRecentBoards() {
+        CachedGame savedGame = cachedGame;
+        for (int i = 0; i < 20; i++) {
+            ChessGame chessGame = savedGame.copyChessGame();
+            savedGame = savedGame.next(chessGame, new ChessGameDto(chessGame, userNames));
+        }
+        ChessGameDto board = new ChessGameDto(savedGame.copyChessGame(), userNames);
+
+        assertThat(savedGame.deltaSince(0, board).isFull()).isTrue();
+        assertThat(savedGame.deltaSince(10, board).isFull()).isFalse();
+    }
+}
@@ -0,0 +1,104 @@
+package chess.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
+import chess.model.dto.CacheStatisticsDto;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChessGameCacheTest {
+
+    private static final CachedGame CACHED_GAME;
+
+    static {
+        Map<Team, String> userNames = new HashMap<>();
+        userNames.put(Team.BLACK, "BLACK");
+        userNames.put(Team.WHITE, "WHITE");
+        CACHED_GAME = new CachedGame(new ChessGame(), userNames, 0);
+    }
+
+    private AtomicLong now;
+    private ChessGameCache chessGameCache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        chessGameCache = new ChessGameCache(2, 100, now::get);
+    }
+
+    @Test
+    void constructor() {
+        assertThatThrownBy(() -> new ChessGameCache(0, 100, now::get))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ChessGameCache(1, 0, now::get))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findHitAndMiss() {
+        assertThat(chessGameCache.find(1)).isEmpty();
+        chessGameCache.put(1, CACHED_GAME);
+        assertThat(chessGameCache.find(1)).containsSame(CACHED_GAME);
+
+        CacheStatisticsDto statistics = chessGameCache.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyUsedWhenFull() {
+        chessGameCache.put(1, CACHED_GAME);
+        chessGameCache.put(2, CACHED_GAME);
+        chessGameCache.find(1);
+        chessGameCache.put(3, CACHED_GAME);
+
+        assertThat(chessGameCache.find(1)).isPresent();
+        assertThat(chessGameCache.find(2)).isEmpty();
+        assertThat(chessGameCache.find(3)).isPresent();
+        assertThat(chessGameCache.getStatistics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictIdleGame() {
+        chessGameCache.put(1, CACHED_GAME);
+        now.addAndGet(99);
+        assertThat(chessGameCache.find(1)).isPresent();
+
+        now.addAndGet(100);
+        assertThat(chessGameCache.find(1)).isEmpty();
+        assertThat(chessGameCache.getStatistics().getEvictionCount()).isEqualTo(1);
+        assertThat(chessGameCache.getStatistics().getSize()).isEqualTo(0);
+    }
+
+    @Test
+    void invalidate() {
+        chessGameCache.put(1, CACHED_GAME);
+        chessGameCache.invalidate(1);
+        assertThat(chessGameCache.find(1)).isEmpty();
+    }
+
+    @Test
+    void copyChessGame() {
+        ChessGame chessGame = CACHED_GAME.copyChessGame();
+        assertThat(chessGame).isNotSameAs(CACHED_GAME.copyChessGame());
+        assertThat(chessGame.getChessBoard()).isEqualTo(new ChessGame().getChessBoard());
+    }
+
+    @Test
+    void replaceOnlyExpectedGame() {
+        CachedGame savedGame = new CachedGame(new ChessGame(), CACHED_GAME.getUserNames(), 1);
+        assertThat(chessGameCache.replace(1, CACHED_GAME, savedGame)).isFalse();
+
+        chessGameCache.put(1, CACHED_GAME);
+        assertThat(chessGameCache.replace(1, CACHED_GAME, savedGame)).isTrue();
+        assertThat(chessGameCache.find(1)).containsSame(savedGame);
+        assertThat(chessGameCache.replace(1, CACHED_GAME, savedGame)).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+package chess.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.piece.Team;
+import chess.model.domain.state.MoveInfo;
+import chess.model.domain.state.PackedMove;
+import chess.model.dto.GameUpdateDto;
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.ChessGameDao;
+import chess.model.repository.ChessMoveDao;
+import chess.model.repository.RoomDao;
+import chess.model.repository.connector.TestDataSources;
+import chess.model.repository.exception.GameConflictException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChessGameWriteBehindTest {
+
+    private static final ChessGameDao CHESS_GAME_DAO = ChessGameDao.getInstance();
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+
+    private final List<Set<Integer>> conflicts = new ArrayList<>();
+    private ChessGameWriter chessGameWriter;
+    private ChessGameCache chessGameCache;
+    private ChessGameWriteBehind chessGameWriteBehind;
+    private Map<Team, String> userNames;
+    private Integer gameId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDataSources.usePrimary(TestDataSources.migrated("chess_game_write_behind"));
+        chessGameWriter = new ChessGameWriter(20);
+        chessGameCache = new ChessGameCache(100, 600);
+        chessGameWriteBehind = new ChessGameWriteBehind(chessGameWriter, chessGameCache, true,
+            60_000L);
+        chessGameWriteBehind.setConflictHandler(conflicts::add);
+        userNames = new HashMap<>();
+        userNames.put(Team.BLACK, "BLACK");
+        userNames.put(Team.WHITE, "WHITE");
+        ChessGame chessGame = new ChessGame();
+        gameId = CHESS_GAME_DAO.create(RoomDao.getInstance().create("write-behind", ""),
+            chessGame.getTurn(), userNames, chessGame.deriveTeamScore());
+    }
+
+    @AfterEach
+    void tearDown() {
+        chessGameWriteBehind.shutdown();
+        TestDataSources.clear();
+    }
+
+    @Test
+    void flush() {
+        chessGameWriteBehind.enqueue(makeGameUpdate(1, "a2", "a4"));
+        chessGameWriteBehind.enqueue(makeGameUpdate(2, "a7", "a5"));
+
+        chessGameWriteBehind.flushAll();
+
+        assertThat(CHESS_GAME_DAO.findInfo(gameId).get().getVersion()).isEqualTo(2);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(2);
+        assertThat(chessGameWriteBehind.countPending()).isZero();
+    }
+
+    @DisplayName("충돌한 변경은 버리고 캐시를 비운 뒤 충돌한 게임을 알림")
+    @Test
+    void dropOnConflict() {
+        chessGameWriter.write(Collections.singletonList(makeGameUpdate(1, "a2", "a4")));
+        chessGameCache.put(gameId, new CachedGame(new ChessGame(), userNames, 1));
+        chessGameWriteBehind.enqueue(makeGameUpdate(1, "b2", "b4"));
+
+        assertThatThrownBy(chessGameWriteBehind::flushAll)
+            .isInstanceOf(GameConflictException.class);
+
+        assertThat(chessGameWriteBehind.countPending()).isZero();
+        assertThat(chessGameCache.find(gameId)).isEmpty();
+        assertThat(conflicts).containsExactly(Collections.singleton(gameId));
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(1);
+    }
+
+    private GameUpdateDto makeGameUpdate(int ply, String source, String target) {
+        ChessGame chessGame = new ChessGame();
+        int moveCode = PackedMove.ofMove(new MoveInfo(source, target)).pack();
+        return new GameUpdateDto(gameId, ply, Team.BLACK, chessGame.deriveTeamScore(),
+            Collections.singletonList(new MoveRecordDto(gameId, ply, moveCode)), false,
+            chessGame.getChessBoard(), new HashMap<>(), new HashMap<>());
+    }
+}
@@ -0,0 +1,97 @@
+package chess.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.board.ChessGame;
+import chess.model.domain.board.Square;
+import chess.model.domain.piece.Piece;
+import chess.model.domain.piece.Team;
+import chess.model.domain.state.MoveInfo;
+import chess.model.domain.state.PackedMove;
+import chess.model.dto.GameUpdateDto;
+import chess.model.dto.MoveRecordDto;
+import chess.model.repository.ChessGameDao;
+import chess.model.repository.ChessMoveDao;
+import chess.model.repository.RoomDao;
+import chess.model.repository.connector.TestDataSources;
+import chess.model.repository.exception.GameConflictException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChessGameWriterTest {
+
+    private static final ChessGameDao CHESS_GAME_DAO = ChessGameDao.getInstance();
+    private static final ChessMoveDao CHESS_MOVE_DAO = ChessMoveDao.getInstance();
+
+    private ChessGameWriter chessGameWriter;
+    private Integer gameId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDataSources.usePrimary(TestDataSources.migrated("chess_game_writer"));
+        chessGameWriter = new ChessGameWriter(20);
+        Map<Team, String> userNames = new HashMap<>();
+        userNames.put(Team.BLACK, "BLACK");
+        userNames.put(Team.WHITE, "WHITE");
+        ChessGame chessGame = new ChessGame();
+        gameId = CHESS_GAME_DAO.create(RoomDao.getInstance().create("writer", ""),
+            chessGame.getTurn(), userNames, chessGame.deriveTeamScore());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataSources.clear();
+    }
+
+    @DisplayName("버전 갱신과 기보 추가를 함께 commit")
+    @Test
+    void write() {
+        chessGameWriter.write(Collections.singletonList(makeGameUpdate(0, new ChessGame()
+            .getChessBoard(), false)));
+
+        assertThat(CHESS_GAME_DAO.findInfo(gameId).get().getVersion()).isEqualTo(1);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).hasSize(1);
+    }
+
+    @DisplayName("스냅샷 저장이 실패하면 버전 갱신과 기보 추가도 rollback")
+    @Test
+    void rollbackWhenSnapshotFails() {
+        Map<Square, Piece> brokenBoard = new HashMap<>();
+        brokenBoard.put(Square.of("a1"), null);
+
+        assertThatThrownBy(() -> chessGameWriter.write(
+            Collections.singletonList(makeGameUpdate(0, brokenBoard, true))))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(CHESS_GAME_DAO.findInfo(gameId).get().getVersion()).isEqualTo(0);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).isEmpty();
+    }
+
+    @DisplayName("버전이 다르면 기보를 남기지 않고 충돌")
+    @Test
+    void conflict() {
+        assertThatThrownBy(() -> chessGameWriter.write(Collections.singletonList(
+            makeGameUpdate(5, new ChessGame().getChessBoard(), false))))
+            .isInstanceOf(GameConflictException.class);
+
+        assertThat(CHESS_GAME_DAO.findInfo(gameId).get().getVersion()).isEqualTo(0);
+        assertThat(CHESS_MOVE_DAO.findMoveCodesAfter(gameId, 0)).isEmpty();
+    }
+
+    private GameUpdateDto makeGameUpdate(int version, Map<Square, Piece> chessBoard,
+        boolean snapshot) {
+        int ply = version + 1;
+        ChessGame chessGame = new ChessGame();
+        int moveCode = PackedMove.ofMove(new MoveInfo("a2", "a4")).pack();
+        return new GameUpdateDto(gameId, ply, Team.BLACK, chessGame.deriveTeamScore(),
+            Collections.singletonList(new MoveRecordDto(gameId, ply, moveCode)), snapshot,
+            chessBoard, new HashMap<>(), new HashMap<>());
+    }
+}
@@ -0,0 +1,107 @@
+package chess.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomDirectoryTest {
+
+    private RoomDirectory roomDirectory;
+
+    @BeforeEach
+    void setUp() {
+        roomDirectory = new RoomDirectory();
+    }
+
+    @Test
+    void loadOnlyOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Map<Integer, String> rooms = new HashMap<>();
+        rooms.put(1, "first");
+
+        roomDirectory.loadIfAbsent(() -> {
+            loadCount.incrementAndGet();
+            return rooms;
+        });
+        roomDirectory.loadIfAbsent(() -> {
+            loadCount.incrementAndGet();
+            return rooms;
+        });
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(roomDirectory.isLoaded()).isTrue();
+        assertThat(roomDirectory.findAll()).containsOnlyKeys(1);
+    }
+
+    @Test
+    void findUsedAfterCursor() {
+        roomDirectory.add(3, "third");
+        roomDirectory.add(1, "first");
+        roomDirectory.add(2, "second");
+        roomDirectory.add(4, "fourth");
+        roomDirectory.remove(3);
+
+        assertThat(roomDirectory.findUsed(0, 2)).containsOnlyKeys(1, 2);
+        assertThat(roomDirectory.findUsed(2, 2)).containsOnlyKeys(4);
+        assertThat(roomDirectory.findUsed(0, 10).keySet()).containsExactly(1, 2, 4);
+    }
+
+    @DisplayName("다른 서버에서 바뀐 방 목록을 읽어 추가와 삭제만 알림")
+    @Test
+    void refreshWithChanges() {
+        Map<Integer, String> rooms = new HashMap<>();
+        rooms.put(1, "first");
+        rooms.put(2, "second");
+        roomDirectory.loadIfAbsent(() -> rooms);
+        Map<Integer, String> latest = new HashMap<>();
+        latest.put(2, "second");
+        latest.put(3, "third");
+        List<Integer> addedRoomIds = new ArrayList<>();
+        List<Integer> removedRoomIds = new ArrayList<>();
+
+        roomDirectory.refresh(() -> latest, (roomId, roomName) -> addedRoomIds.add(roomId),
+            removedRoomIds::add);
+
+        assertThat(addedRoomIds).containsExactly(3);
+        assertThat(removedRoomIds).containsExactly(1);
+        assertThat(roomDirectory.findAll()).containsOnlyKeys(2, 3);
+    }
+
+    @DisplayName("갱신 중에 이 서버에서 만든 방은 지우지 않음")
+    @Test
+    void refreshKeepsRoomAddedWhileLoading() {
+        roomDirectory.loadIfAbsent(HashMap::new);
+        List<Integer> removedRoomIds = new ArrayList<>();
+
+        roomDirectory.refresh(() -> {
+            roomDirectory.add(1, "first");
+            return new HashMap<>();
+        }, (roomId, roomName) -> {
+        }, removedRoomIds::add);
+
+        assertThat(removedRoomIds).isEmpty();
+        assertThat(roomDirectory.findAll()).containsOnlyKeys(1);
+    }
+
+    @Test
+    void refreshBeforeLoad() {
+        AtomicInteger loadCount = new AtomicInteger();
+
+        roomDirectory.refresh(() -> {
+            loadCount.incrementAndGet();
+            return new HashMap<>();
+        }, (roomId, roomName) -> {
+        }, roomId -> {
+        });
+
+        assertThat(loadCount.get()).isZero();
+        assertThat(roomDirectory.isLoaded()).isFalse();
+    }
+}
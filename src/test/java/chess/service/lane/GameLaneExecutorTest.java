@@ -0,0 +1,266 @@
+package chess.service.lane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import chess.config.VirtualThreads;
+import chess.model.repository.connector.ReadRouting;
+import chess.model.repository.connector.ReadRouting.Scope;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameLaneExecutorTest {
+
+    private GameLaneExecutor gameLaneExecutor;
+
+    @BeforeEach
+    void setUp() {
+        gameLaneExecutor = new GameLaneExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameLaneExecutor.shutdown();
+    }
+
+    @Test
+    void constructor() {
+        assertThatThrownBy(() -> new GameLaneExecutor(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("lane 대기열이 가득 차면 요청을 거절")
+    @Test
+    void rejectWhenLaneQueueIsFull() throws InterruptedException {
+        GameLaneExecutor boundedLanes = new GameLaneExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> running = boundedLanes.submit(1, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return 1;
+        });
+        started.await();
+        CompletableFuture<Integer> queued = boundedLanes.submit(1, () -> 2);
+
+        assertThatThrownBy(boundedLanes.submit(1, () -> 3)::join)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> boundedLanes.execute(1, () -> 4))
+            .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo(1);
+        assertThat(queued.join()).isEqualTo(2);
+        boundedLanes.shutdown();
+    }
+
+    @Test
+    void sameGameRunsOnSameLane() {
+        String firstThread = gameLaneExecutor.execute(1, () -> Thread.currentThread().getName());
+        String secondThread = gameLaneExecutor.execute(1, () -> Thread.currentThread().getName());
+        String otherThread = gameLaneExecutor.execute(2, () -> Thread.currentThread().getName());
+
+        assertThat(firstThread).isEqualTo(secondThread);
+        assertThat(firstThread).isNotEqualTo(otherThread);
+    }
+
+    @Test
+    void sameGameIsSerialized() {
+        ExecutorService requests = Executors.newFixedThreadPool(8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> gameLaneExecutor.execute(1, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                return 1;
+            }), requests));
+        }
+
+        results.forEach(CompletableFuture::join);
+        requests.shutdown();
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void nestedCallOnSameLane() {
+        assertThat(gameLaneExecutor.execute(1, () -> gameLaneExecutor.execute(5, () -> 5)))
+            .isEqualTo(5);
+    }
+
+    @Test
+    void exceptionIsRethrown() {
+        assertThatThrownBy(() -> gameLaneExecutor.execute(1, () -> {
+            throw new IllegalArgumentException("잘못된 요청");
+        })).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("잘못된 요청");
+    }
+
+    @Test
+    void submitRunsOnSameLaneAsExecute() {
+        String laneThread = gameLaneExecutor.execute(1, () -> Thread.currentThread().getName());
+        CompletableFuture<String> submitted
+            = gameLaneExecutor.submit(1, () -> Thread.currentThread().getName());
+
+        assertThat(submitted.join()).isEqualTo(laneThread);
+    }
+
+    @Test
+    void submitCompletesExceptionally() {
+        CompletableFuture<Integer> submitted = gameLaneExecutor.submit(1, () -> {
+            throw new IllegalArgumentException("잘못된 요청");
+        });
+
+        assertThatThrownBy(submitted::join)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readRoutingPropagatesAcrossLane() {
+        try (Scope scope = ReadRouting.openScope()) {
+            assertThat(gameLaneExecutor.execute(1, ReadRouting::isReplicaReadable)).isTrue();
+
+            gameLaneExecutor.execute(1, () -> {
+                ReadRouting.pinToPrimary();
+                return null;
+            });
+            assertThat(ReadRouting.isReplicaReadable()).isFalse();
+            assertThat(gameLaneExecutor.execute(2, ReadRouting::isReplicaReadable)).isFalse();
+        }
+    }
+
+    @Test
+    void executeAllHoldsEveryLane() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean closed = new AtomicBoolean();
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(
+            () -> gameLaneExecutor.executeAll(Arrays.asList(1, 2, 3), () -> {
+                started.countDown();
+                awaitQuietly(release);
+                closed.set(true);
+                return null;
+            }));
+        started.await();
+
+        CompletableFuture<Boolean> queued = gameLaneExecutor.submit(2, closed::get);
+        release.countDown();
+
+        closing.join();
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    void executeAllOnOtherLaneFromLane() {
+        assertThatThrownBy(() -> gameLaneExecutor.execute(1,
+            () -> gameLaneExecutor.executeAll(Arrays.asList(1, 2), () -> null)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(gameLaneExecutor.execute(1,
+            () -> gameLaneExecutor.executeAll(Arrays.asList(1, 5), () -> 5))).isEqualTo(5);
+    }
+
+    @DisplayName("가상 스레드 모드는 lane 스레드 없이 호출한 스레드에서 게임별로 직렬화")
+    @Test
+    void virtualModeRunsInlineAndSerialized() {
+        assumeTrue(VirtualThreads.isSupported());
+        GameLaneExecutor virtualLanes = new GameLaneExecutor(4, 1000, true, 8);
+        ExecutorService requests = Executors.newFixedThreadPool(8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> virtualLanes.execute(1, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                return 1;
+            }), requests));
+        }
+
+        results.forEach(CompletableFuture::join);
+        requests.shutdown();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(virtualLanes.execute(1, () -> Thread.currentThread().getName()))
+            .isEqualTo(Thread.currentThread().getName());
+        assertThat(virtualLanes.execute(1, () -> virtualLanes.execute(9, () -> 9))).isEqualTo(9);
+        virtualLanes.shutdown();
+    }
+
+    @DisplayName("가상 스레드 모드에서도 묶어 실행하는 동안 다른 요청은 기다림")
+    @Test
+    void virtualModeExecuteAllHoldsEveryLane() throws InterruptedException {
+        assumeTrue(VirtualThreads.isSupported());
+        GameLaneExecutor virtualLanes = new GameLaneExecutor(4, 1000, true, 8);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean closed = new AtomicBoolean();
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(
+            () -> virtualLanes.executeAll(Arrays.asList(3, 1, 2), () -> {
+                started.countDown();
+                awaitQuietly(release);
+                closed.set(true);
+                return null;
+            }));
+        started.await();
+
+        CompletableFuture<Boolean> queued = virtualLanes.submit(2, closed::get);
+        release.countDown();
+
+        closing.join();
+        assertThat(queued.join()).isTrue();
+        virtualLanes.shutdown();
+    }
+
+    @DisplayName("가상 스레드 모드에서도 같은 게임의 요청은 도착 순서대로 처리하고 대기열이 차면 거절")
+    @Test
+    void virtualModeKeepsArrivalOrder() throws InterruptedException {
+        assumeTrue(VirtualThreads.isSupported());
+        GameLaneExecutor virtualLanes = new GameLaneExecutor(1, 3, true, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> running = virtualLanes.submit(1, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return 0;
+        });
+        started.await();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Boolean>> queued = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            int arrival = i;
+            queued.add(virtualLanes.submit(1, () -> order.add(arrival)));
+            Thread.sleep(50);
+        }
+
+        assertThatThrownBy(() -> virtualLanes.execute(1, () -> 4))
+            .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        running.join();
+        queued.forEach(CompletableFuture::join);
+        assertThat(order).containsExactly(1, 2, 3);
+        virtualLanes.shutdown();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package chess.service.premove;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.model.domain.piece.Team;
+import chess.model.domain.state.MoveInfo;
+import chess.model.dto.PremoveDto;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PremoveQueueTest {
+
+    private PremoveQueue premoveQueue;
+
+    @BeforeEach
+    void setUp() {
+        premoveQueue = new PremoveQueue(2);
+    }
+
+    @Test
+    void submitOverMaximumCount() {
+        Premove premove = Premove.of(new PremoveDto("a7", "a6", null, null, null));
+
+        assertThatThrownBy(() -> premoveQueue.submit(1, Team.BLACK,
+            Arrays.asList(premove, premove, premove)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pollInOrderByTeam() {
+        Premove first = Premove.of(new PremoveDto("a7", "a6", null, null, null));
+        Premove second = Premove.of(new PremoveDto("a6", "a5", null, null, null));
+        premoveQueue.submit(1, Team.BLACK, Arrays.asList(first, second));
+
+        assertThat(premoveQueue.poll(1, Team.WHITE)).isEmpty();
+        assertThat(premoveQueue.poll(1, Team.BLACK)).contains(first);
+        assertThat(premoveQueue.poll(1, Team.BLACK)).contains(second);
+        assertThat(premoveQueue.poll(1, Team.BLACK)).isEmpty();
+    }
+
+    @Test
+    void clearWhenExpectedMoveDiffers() {
+        Premove premove = Premove.of(new PremoveDto("a7", "a6", null, "e2", "e4"));
+        premoveQueue.submit(1, Team.BLACK, Arrays.asList(premove, premove));
+        premoveQueue.recordMove(1, new MoveInfo("d2", "d4"));
+
+        assertThat(premoveQueue.poll(1, Team.BLACK)).isEmpty();
+        assertThat(premoveQueue.count(1, Team.BLACK)).isZero();
+    }
+
+    @Test
+    void pollWhenExpectedMoveMatches() {
+        Premove premove = Premove.of(new PremoveDto("a7", "a6", null, "e2", "e4"));
+        premoveQueue.submit(1, Team.BLACK, Collections.singletonList(premove));
+        premoveQueue.recordMove(1, new MoveInfo("e2", "e4"));
+
+        assertThat(premoveQueue.poll(1, Team.BLACK)).contains(premove);
+    }
+
+    @DisplayName("상대가 먼저 둔 뒤에 예약해도 예상한 수와 비교")
+    @Test
+    void pollWhenSubmittedAfterExpectedMove() {
+        Premove premove = Premove.of(new PremoveDto("a7", "a6", null, "e2", "e4"));
+        premoveQueue.recordMove(1, new MoveInfo("e2", "e4"));
+        premoveQueue.submit(1, Team.BLACK, Collections.singletonList(premove));
+
+        assertThat(premoveQueue.poll(1, Team.BLACK)).contains(premove);
+    }
+
+    @Test
+    void clearGame() {
+        Premove premove = Premove.of(new PremoveDto("a7", "a6", null, null, null));
+        premoveQueue.submit(1, Team.BLACK, Collections.singletonList(premove));
+        premoveQueue.clear(1);
+
+        assertThat(premoveQueue.count(1, Team.BLACK)).isZero();
+    }
+}